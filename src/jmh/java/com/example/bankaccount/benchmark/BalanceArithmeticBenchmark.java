@@ -0,0 +1,60 @@
+package com.example.bankaccount.benchmark;
+
+import com.example.bankaccount.model.Money;
+import org.openjdk.jmh.annotations.*;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BalanceArithmeticBenchmark {
+
+    private BigDecimal balance;
+    private BigDecimal amount;
+    private Money moneyBalance;
+    private Money moneyAmount;
+    private char[] amountText;
+
+    @Setup
+    public void setUp() {
+        balance = new BigDecimal("1000000.00");
+        amount = new BigDecimal("12.34");
+        moneyBalance = Money.of(balance);
+        moneyAmount = Money.of(amount);
+        amountText = "1250.75".toCharArray();
+    }
+
+    @Benchmark
+    public BigDecimal deposit() {
+        return balance.add(amount);
+    }
+
+    @Benchmark
+    public BigDecimal withdraw() {
+        return balance.compareTo(amount) < 0 ? balance : balance.subtract(amount);
+    }
+
+    @Benchmark
+    public BigDecimal parseAmount() {
+        return new BigDecimal(amountText, 0, amountText.length);
+    }
+
+    @Benchmark
+    public Money depositMoney() {
+        return moneyBalance.add(moneyAmount);
+    }
+
+    @Benchmark
+    public Money withdrawMoney() {
+        return moneyBalance.compareTo(moneyAmount) < 0 ? moneyBalance : moneyBalance.subtract(moneyAmount);
+    }
+
+    @Benchmark
+    public Money parseMoney() {
+        return Money.parse(amountText, 0, amountText.length);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.bankaccount.benchmark;
+
+import com.example.bankaccount.exception.InvalidOperationException;
+import com.example.bankaccount.model.enums.OperationType;
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OperationTypeDecodeBenchmark {
+
+    @Param({"DEPOSIT", "withdraw", "Transfer"})
+    public String operation;
+
+    @Benchmark
+    public OperationType decodeValid() {
+        return OperationType.decode(operation);
+    }
+
+    @Benchmark
+    public Object decodeInvalid() {
+        try {
+            return OperationType.decode("REFUND");
+        } catch (InvalidOperationException e) {
+            return e;
+        }
+    }
+}
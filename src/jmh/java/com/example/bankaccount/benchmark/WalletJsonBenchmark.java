@@ -0,0 +1,49 @@
+package com.example.bankaccount.benchmark;
+
+import com.example.bankaccount.model.Money;
+import com.example.bankaccount.model.WalletBalanceResponseModel;
+import com.example.bankaccount.model.WalletOperationRequestModel;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WalletJsonBenchmark {
+
+    private ObjectReader requestReader;
+    private ObjectWriter responseWriter;
+    private byte[] requestPayload;
+    private WalletBalanceResponseModel response;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        UUID walletId = UUID.randomUUID();
+        requestReader = objectMapper.readerFor(WalletOperationRequestModel.class);
+        responseWriter = objectMapper.writerFor(WalletBalanceResponseModel.class);
+        requestPayload = """
+                {"walletId":"%s","operationType":"DEPOSIT","amount":"1250.75"}
+                """.formatted(walletId).getBytes(StandardCharsets.UTF_8);
+        response = new WalletBalanceResponseModel(walletId, Money.parse("98765.43"));
+    }
+
+    @Benchmark
+    public WalletOperationRequestModel deserializeRequest() throws IOException {
+        return requestReader.readValue(requestPayload);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws IOException {
+        return responseWriter.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.bankaccount.benchmark;
+
+import com.example.bankaccount.BankAccountApplication;
+import com.example.bankaccount.model.Money;
+import com.example.bankaccount.model.WalletBalanceResponseModel;
+import com.example.bankaccount.model.WalletOperationRequestModel;
+import com.example.bankaccount.model.enums.OperationType;
+import com.example.bankaccount.service.WalletService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs against the datasource from application.yaml; override it with -Dspring.datasource.url=... when needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(8)
+public class WalletServiceBenchmark {
+
+    private static final Money AMOUNT = Money.of(1);
+
+    @Param({"CONTENDED", "UNIFORM"})
+    public String scenario;
+
+    @Param({"jpa", "atomic"})
+    public String writePath;
+
+    @Param("1000")
+    public int walletCount;
+
+    private ConfigurableApplicationContext context;
+    private WalletService walletService;
+    private JdbcTemplate jdbcTemplate;
+    private UUID[] walletIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BankAccountApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("wallet.write-path=" + writePath, "spring.main.banner-mode=off", "logging.level.root=WARN")
+                .run();
+        walletService = context.getBean(WalletService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        walletIds = new UUID[walletCount];
+        List<Object[]> rows = new ArrayList<>(walletCount);
+        for (int i = 0; i < walletCount; i++) {
+            walletIds[i] = UUID.randomUUID();
+            rows.add(new Object[]{walletIds[i]});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO wallets (wallet_id, balance, version) VALUES (?, 1000000000, 0)", rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        List<Object[]> rows = new ArrayList<>(walletIds.length);
+        for (UUID walletId : walletIds) {
+            rows.add(new Object[]{walletId});
+        }
+        jdbcTemplate.batchUpdate("DELETE FROM wallet_transactions WHERE wallet_id = ?", rows);
+        jdbcTemplate.batchUpdate("DELETE FROM wallets WHERE wallet_id = ?", rows);
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Caller {
+        private final SplittableRandom random = new SplittableRandom();
+        public long failures;
+    }
+
+    @Benchmark
+    public WalletBalanceResponseModel deposit(Caller caller) {
+        return apply(caller, OperationType.DEPOSIT);
+    }
+
+    @Benchmark
+    public WalletBalanceResponseModel withdraw(Caller caller) {
+        return apply(caller, OperationType.WITHDRAW);
+    }
+
+    private WalletBalanceResponseModel apply(Caller caller, OperationType operationType) {
+        UUID walletId = "CONTENDED".equals(scenario) ? walletIds[0] : walletIds[caller.random.nextInt(walletIds.length)];
+        WalletOperationRequestModel request = new WalletOperationRequestModel(walletId, operationType, AMOUNT);
+        try {
+            return operationType == OperationType.WITHDRAW ? walletService.withdraw(request) : walletService.deposit(request);
+        } catch (RuntimeException e) {
+            caller.failures++;
+            return null;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.bankaccount.loadtest;
+
+public enum LoadOperation {
+    GET,
+    DEPOSIT,
+    WITHDRAW
+}
@@ -0,0 +1,107 @@
+package com.example.bankaccount.loadtest;
+
+import com.example.bankaccount.model.Money;
+import org.springframework.boot.convert.DurationStyle;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Harness settings, passed as {@code key=value} arguments; arguments starting with {@code --} go to Spring.
+ */
+public record LoadProfile(
+        int wallets,
+        int threads,
+        Duration warmup,
+        Duration duration,
+        Map<LoadOperation, Integer> mix,
+        double zipfExponent,
+        Money amount,
+        Money initialBalance,
+        Duration requestTimeout,
+        List<String> springArguments
+) {
+
+    public static LoadProfile parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        List<String> springArguments = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                springArguments.add(arg);
+                continue;
+            }
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            }
+            values.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        LoadProfile profile = new LoadProfile(
+                Integer.parseInt(values.getOrDefault("wallets", "10000")),
+                Integer.parseInt(values.getOrDefault("threads", "32")),
+                DurationStyle.detectAndParse(values.getOrDefault("warmup", "10s")),
+                DurationStyle.detectAndParse(values.getOrDefault("duration", "60s")),
+                parseMix(values.getOrDefault("mix", "get:50,deposit:25,withdraw:25")),
+                Double.parseDouble(values.getOrDefault("zipf", "1.0")),
+                Money.parse(values.getOrDefault("amount", "1.00")),
+                Money.parse(values.getOrDefault("initial-balance", "1000000.00")),
+                DurationStyle.detectAndParse(values.getOrDefault("request-timeout", "10s")),
+                List.copyOf(springArguments));
+        if (profile.wallets() <= 0 || profile.threads() <= 0) {
+            throw new IllegalArgumentException("wallets and threads must be positive");
+        }
+        if (profile.zipfExponent() < 0) {
+            throw new IllegalArgumentException("zipf exponent must not be negative");
+        }
+        if (profile.amount().signum() <= 0 || profile.initialBalance().signum() < 0) {
+            throw new IllegalArgumentException("amount must be positive and initial-balance must not be negative");
+        }
+        return profile;
+    }
+
+    private static Map<LoadOperation, Integer> parseMix(String text) {
+        Map<LoadOperation, Integer> mix = new EnumMap<>(LoadOperation.class);
+        for (String entry : text.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected operation:weight in mix but got: " + entry);
+            }
+            LoadOperation type = LoadOperation.valueOf(parts[0].trim().toUpperCase());
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Mix weights must not be negative: " + entry);
+            }
+            mix.merge(type, weight, Integer::sum);
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Mix must contain at least one positive weight");
+        }
+        return mix;
+    }
+
+    LoadOperation[] operationTable() {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        LoadOperation[] table = new LoadOperation[total];
+        int index = 0;
+        for (LoadOperation type : LoadOperation.values()) {
+            for (int i = 0; i < mix.getOrDefault(type, 0); i++) {
+                table[index++] = type;
+            }
+        }
+        return table;
+    }
+
+    String[] applicationProperties() {
+        return new String[]{
+                "server.port=0",
+                "spring.main.banner-mode=off",
+                "logging.level.root=WARN",
+                "spring.liquibase.change-log=classpath:db/changelog/loadtest-changelog.xml",
+                "spring.liquibase.parameters.loadtest.wallets=" + wallets,
+                "spring.liquibase.parameters.loadtest.initial-balance=" + initialBalance
+        };
+    }
+}
@@ -0,0 +1,340 @@
+package com.example.bankaccount.loadtest;
+
+import com.example.bankaccount.BankAccountApplication;
+import com.example.bankaccount.model.Money;
+import com.example.bankaccount.model.WalletBalanceLookupRequestModel;
+import com.example.bankaccount.model.WalletBalanceLookupResponseModel;
+import com.example.bankaccount.model.WalletBalanceResponseModel;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Run with {@code ./mvnw -Ploadtest test-compile exec:exec -Dloadtest.args="threads=64 zipf=1.2 --wallet.write-path=atomic"}.
+ */
+public final class WalletLoadTest {
+
+    private static final String API = "/api/v1/wallet";
+    private static final int LOOKUP_CHUNK = 1000;
+
+    private final LoadProfile profile;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final URI baseUri;
+    private final UUID[] walletIds;
+    private final ZipfSampler sampler;
+    private final LoadOperation[] operationTable;
+    private final long highestTrackableMicros;
+    private final AtomicLongArray appliedMinorUnits;
+    private final Set<Integer> uncertainWallets = ConcurrentHashMap.newKeySet();
+    private volatile Phase phase = Phase.WARMUP;
+
+    private WalletLoadTest(LoadProfile profile, ConfigurableApplicationContext context) {
+        this.profile = profile;
+        this.client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        this.objectMapper = context.getBean(ObjectMapper.class);
+        this.meterRegistry = context.getBean(MeterRegistry.class);
+        this.baseUri = URI.create("http://localhost:"
+                + context.getEnvironment().getRequiredProperty("local.server.port") + API);
+        this.walletIds = new UUID[profile.wallets()];
+        for (int i = 0; i < walletIds.length; i++) {
+            walletIds[i] = seededWalletId(i + 1);
+        }
+        this.sampler = new ZipfSampler(profile.wallets(), profile.zipfExponent());
+        this.operationTable = profile.operationTable();
+        this.highestTrackableMicros = TimeUnit.MILLISECONDS.toMicros(profile.requestTimeout().toMillis() * 2);
+        this.appliedMinorUnits = new AtomicLongArray(profile.wallets());
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadProfile profile = LoadProfile.parse(args);
+        boolean consistent;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BankAccountApplication.class)
+                .properties(profile.applicationProperties())
+                .run(profile.springArguments().toArray(String[]::new))) {
+            consistent = new WalletLoadTest(profile, context).run();
+        }
+        System.exit(consistent ? 0 : 1);
+    }
+
+    static UUID seededWalletId(int n) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(("loadtest-" + n).getBytes(StandardCharsets.UTF_8));
+            ByteBuffer buffer = ByteBuffer.wrap(digest);
+            return new UUID(buffer.getLong(), buffer.getLong());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private boolean run() throws Exception {
+        SplittableRandom seed = new SplittableRandom();
+        List<Caller> callers = new ArrayList<>(profile.threads());
+        List<Thread> threads = new ArrayList<>(profile.threads());
+        for (int i = 0; i < profile.threads(); i++) {
+            Caller caller = new Caller(seed.split());
+            callers.add(caller);
+            Thread thread = new Thread(caller, "load-caller-" + i);
+            threads.add(thread);
+            thread.start();
+        }
+
+        Thread.sleep(profile.warmup().toMillis());
+        double conflictsBefore = conflicts();
+        double[] attemptsBefore = attempts();
+        long started = System.nanoTime();
+        phase = Phase.MEASURE;
+        Thread.sleep(profile.duration().toMillis());
+        phase = Phase.STOP;
+        long elapsedNanos = System.nanoTime() - started;
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double conflicts = conflicts() - conflictsBefore;
+        double[] attemptsAfter = attempts();
+
+        report(callers, elapsedNanos, conflicts,
+                attemptsAfter[0] - attemptsBefore[0], attemptsAfter[1] - attemptsBefore[1]);
+        return verifyBalances();
+    }
+
+    private Outcome call(LoadOperation operation, int wallet) {
+        UUID walletId = walletIds[wallet];
+        HttpRequest.Builder request = HttpRequest.newBuilder().timeout(profile.requestTimeout());
+        if (operation == LoadOperation.GET) {
+            request.uri(baseUri.resolve(API + "/" + walletId)).GET();
+        } else {
+            request.uri(baseUri)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"walletId\":\"" + walletId
+                            + "\",\"operationType\":\"" + operation.name()
+                            + "\",\"amount\":\"" + profile.amount() + "\"}"));
+        }
+
+        Outcome outcome;
+        try {
+            HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            outcome = Outcome.of(response.statusCode(), response.body());
+        } catch (IOException e) {
+            outcome = Outcome.FAILED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = Outcome.FAILED;
+        }
+
+        if (operation != LoadOperation.GET) {
+            if (outcome == Outcome.APPLIED) {
+                long minorUnits = profile.amount().minorUnits();
+                appliedMinorUnits.addAndGet(wallet, operation == LoadOperation.DEPOSIT ? minorUnits : -minorUnits);
+            } else if (outcome == Outcome.FAILED) {
+                uncertainWallets.add(wallet);
+            }
+        }
+        return outcome;
+    }
+
+    private double conflicts() {
+        return meterRegistry.find("wallet.operations.conflicts").counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+
+    private double[] attempts() {
+        double[] totals = new double[2];
+        for (DistributionSummary summary : meterRegistry.find("wallet.operations.attempts").summaries()) {
+            totals[0] += summary.count();
+            totals[1] += summary.totalAmount();
+        }
+        return totals;
+    }
+
+    private void report(List<Caller> callers, long elapsedNanos, double conflicts,
+                        double writeCalls, double writeAttempts) {
+        double seconds = elapsedNanos / 1e9;
+        System.out.printf("%n%d wallets, %d callers, zipf %.2f (top 1%% of wallets get %.1f%% of calls), mix %s, %ds measured after %ds warmup%n",
+                profile.wallets(), profile.threads(), profile.zipfExponent(),
+                sampler.share(Math.max(1, profile.wallets() / 100)) * 100, profile.mix(),
+                profile.duration().toSeconds(), profile.warmup().toSeconds());
+        System.out.printf("%-9s %10s %10s %9s %9s %9s %9s %9s %9s %12s %10s %8s%n",
+                "operation", "calls", "calls/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms",
+                "applied", "conflict", "insufficient", "overloaded", "failed");
+
+        long totalCalls = 0;
+        long[] totalOutcomes = new long[Outcome.values().length];
+        for (LoadOperation operation : LoadOperation.values()) {
+            Histogram histogram = new Histogram(highestTrackableMicros, 3);
+            long[] outcomes = new long[Outcome.values().length];
+            for (Caller caller : callers) {
+                histogram.add(caller.latencies[operation.ordinal()]);
+                for (Outcome outcome : Outcome.values()) {
+                    outcomes[outcome.ordinal()] += caller.outcomes[operation.ordinal()][outcome.ordinal()];
+                }
+            }
+            long calls = histogram.getTotalCount();
+            if (calls == 0) {
+                continue;
+            }
+            totalCalls += calls;
+            for (Outcome outcome : Outcome.values()) {
+                totalOutcomes[outcome.ordinal()] += outcomes[outcome.ordinal()];
+            }
+            System.out.printf("%-9s %10d %10.0f %9.2f %9.2f %9.2f %9.2f %9d %9d %12d %10d %8d%n",
+                    operation.name().toLowerCase(), calls, calls / seconds,
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)), millis(histogram.getMaxValue()),
+                    outcomes[Outcome.APPLIED.ordinal()], outcomes[Outcome.CONFLICT.ordinal()],
+                    outcomes[Outcome.INSUFFICIENT_FUNDS.ordinal()], outcomes[Outcome.OVERLOADED.ordinal()],
+                    outcomes[Outcome.FAILED.ordinal()]);
+        }
+
+        System.out.printf("throughput: %.0f calls/s (%d calls)%n", totalCalls / seconds, totalCalls);
+        System.out.printf("optimistic-lock conflicts: %.0f over %.0f write attempts (%.2f%%), %.3f attempts per write%n",
+                conflicts, writeAttempts, writeAttempts == 0 ? 0 : conflicts * 100 / writeAttempts,
+                writeCalls == 0 ? 0 : writeAttempts / writeCalls);
+        System.out.printf("conflicts surfaced as 409: %d (%.2f%% of calls)%n",
+                totalOutcomes[Outcome.CONFLICT.ordinal()],
+                totalCalls == 0 ? 0 : totalOutcomes[Outcome.CONFLICT.ordinal()] * 100.0 / totalCalls);
+    }
+
+    private boolean verifyBalances() throws IOException, InterruptedException {
+        Money seed = profile.initialBalance();
+        long expectedTotal = 0;
+        long actualTotal = 0;
+        int checked = 0;
+        List<String> mismatches = new ArrayList<>();
+        List<UUID> wallets = List.of(walletIds);
+        Map<UUID, Integer> indexes = new HashMap<>(walletIds.length * 2);
+        for (int i = 0; i < walletIds.length; i++) {
+            indexes.put(walletIds[i], i);
+        }
+        for (int from = 0; from < walletIds.length; from += LOOKUP_CHUNK) {
+            int to = Math.min(from + LOOKUP_CHUNK, walletIds.length);
+            List<UUID> chunk = wallets.subList(from, to);
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(baseUri.resolve(API + "/balances"))
+                    .timeout(profile.requestTimeout())
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            objectMapper.writeValueAsString(new WalletBalanceLookupRequestModel(chunk))))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Balance lookup failed with status " + response.statusCode()
+                        + ": " + response.body());
+            }
+            WalletBalanceLookupResponseModel lookup =
+                    objectMapper.readValue(response.body(), WalletBalanceLookupResponseModel.class);
+            for (UUID missing : lookup.missingWalletIds()) {
+                mismatches.add(missing + " is missing");
+            }
+            for (WalletBalanceResponseModel balance : lookup.balances()) {
+                int index = indexes.get(balance.walletId());
+                if (uncertainWallets.contains(index)) {
+                    continue;
+                }
+                long expected = seed.minorUnits() + appliedMinorUnits.get(index);
+                long actual = balance.balance().minorUnits();
+                expectedTotal += expected;
+                actualTotal += actual;
+                checked++;
+                if (expected != actual) {
+                    mismatches.add(balance.walletId() + " expected " + Money.ofMinorUnits(expected)
+                            + " but was " + balance.balance());
+                }
+            }
+        }
+
+        System.out.printf("invariant: %d wallets checked, %d skipped after failed calls, expected total %s, actual total %s%n",
+                checked, uncertainWallets.size(), Money.ofMinorUnits(expectedTotal), Money.ofMinorUnits(actualTotal));
+        if (mismatches.isEmpty()) {
+            System.out.println("invariant: OK");
+            return true;
+        }
+        System.out.printf("invariant: VIOLATED for %d wallets%n", mismatches.size());
+        mismatches.stream().limit(20).forEach(mismatch -> System.out.println("  " + mismatch));
+        return false;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private enum Phase {
+        WARMUP,
+        MEASURE,
+        STOP
+    }
+
+    private enum Outcome {
+        APPLIED,
+        CONFLICT,
+        INSUFFICIENT_FUNDS,
+        OVERLOADED,
+        FAILED;
+
+        static Outcome of(int status, String body) {
+            if (status == 200) {
+                return APPLIED;
+            }
+            if (status == 409) {
+                return body.contains("concurrent") || body.contains("contention") ? CONFLICT : INSUFFICIENT_FUNDS;
+            }
+            if (status == 429 || status == 503) {
+                return OVERLOADED;
+            }
+            return FAILED;
+        }
+    }
+
+    private final class Caller implements Runnable {
+
+        private final SplittableRandom random;
+        private final Histogram[] latencies = new Histogram[LoadOperation.values().length];
+        private final long[][] outcomes = new long[LoadOperation.values().length][Outcome.values().length];
+
+        private Caller(SplittableRandom random) {
+            this.random = random;
+            for (int i = 0; i < latencies.length; i++) {
+                latencies[i] = new Histogram(highestTrackableMicros, 3);
+            }
+        }
+
+        @Override
+        public void run() {
+            Phase current;
+            while ((current = phase) != Phase.STOP) {
+                LoadOperation operation = operationTable[random.nextInt(operationTable.length)];
+                int wallet = sampler.next(random);
+                long started = System.nanoTime();
+                Outcome outcome = call(operation, wallet);
+                long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started);
+                if (current == Phase.MEASURE) {
+                    latencies[operation.ordinal()].recordValue(Math.min(micros, highestTrackableMicros));
+                    outcomes[operation.ordinal()][outcome.ordinal()]++;
+                }
+            }
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package com.example.bankaccount;
 
+import com.example.bankaccount.config.WalletProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableRetry
+@EnableScheduling
+@EnableConfigurationProperties(WalletProperties.class)
 public class BankAccountApplication {
 
 	public static void main(String[] args) {
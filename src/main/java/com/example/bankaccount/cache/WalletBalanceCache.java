@@ -0,0 +1,97 @@
+package com.example.bankaccount.cache;
+
+import com.example.bankaccount.config.WalletProperties;
+import com.example.bankaccount.entity.Wallet;
+import com.example.bankaccount.model.Money;
+import com.example.bankaccount.model.WalletBalanceResponseModel;
+import com.example.bankaccount.support.TransactionCallbacks;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+public class WalletBalanceCache {
+
+    private final Cache<UUID, CachedBalance> cache;
+    private final WalletChangePublisher walletChangePublisher;
+
+    public WalletBalanceCache(WalletProperties properties, MeterRegistry meterRegistry,
+                              WalletChangePublisher walletChangePublisher) {
+        WalletProperties.Cache settings = properties.getCache();
+        this.cache = settings.isEnabled()
+                ? Caffeine.newBuilder()
+                        .maximumSize(settings.getMaxSize())
+                        .expireAfterWrite(settings.getTtl())
+                        .recordStats()
+                        .build()
+                : null;
+        this.walletChangePublisher = walletChangePublisher;
+        if (cache != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, "wallet-balances");
+        }
+    }
+
+    public Optional<WalletBalanceResponseModel> get(UUID walletId) {
+        if (cache == null || walletId == null) {
+            return Optional.empty();
+        }
+        CachedBalance cached = cache.getIfPresent(walletId);
+        return cached == null
+                ? Optional.empty()
+                : Optional.of(new WalletBalanceResponseModel(walletId, cached.balance()));
+    }
+
+    public void put(UUID walletId, Money balance, long version) {
+        if (cache == null) {
+            return;
+        }
+        cache.asMap().compute(walletId, (id, current) ->
+                current != null && current.version() >= version ? current : new CachedBalance(balance, version));
+    }
+
+    public void refresh(UUID walletId, Money balance, long version) {
+        if (cache == null) {
+            return;
+        }
+        cache.asMap().computeIfPresent(walletId, (id, current) ->
+                current.version() >= version ? current : new CachedBalance(balance, version));
+    }
+
+    public void putAfterCommit(Wallet wallet) {
+        afterCommit(() -> putAndPublish(wallet.getWalletId(), wallet.getBalance(), wallet.getVersion()));
+    }
+
+    public void putAfterCommit(UUID walletId, Money balance, long version) {
+        afterCommit(() -> putAndPublish(walletId, balance, version));
+    }
+
+    public void evict(UUID walletId) {
+        if (cache != null) {
+            cache.invalidate(walletId);
+        }
+    }
+
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    private void putAndPublish(UUID walletId, Money balance, long version) {
+        put(walletId, balance, version);
+        walletChangePublisher.publish(walletId, balance, version);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (cache != null) {
+            TransactionCallbacks.afterCommit(action);
+        }
+    }
+
+    private record CachedBalance(Money balance, long version) {
+    }
+}
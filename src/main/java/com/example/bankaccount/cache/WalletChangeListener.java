@@ -0,0 +1,117 @@
+package com.example.bankaccount.cache;
+
+import com.example.bankaccount.config.WalletProperties;
+import com.example.bankaccount.repository.WalletSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class WalletChangeListener implements InitializingBean, DisposableBean {
+
+    private final DataSource dataSource;
+    private final WalletBalanceCache walletBalanceCache;
+    private final boolean enabled;
+    private final String channel;
+    private final int listenTimeoutMillis;
+    private final long reconnectDelayMillis;
+    private volatile boolean running;
+    private Thread listener;
+
+    public WalletChangeListener(DataSource dataSource, WalletBalanceCache walletBalanceCache, WalletProperties properties) {
+        WalletProperties.Cache cache = properties.getCache();
+        this.dataSource = dataSource;
+        this.walletBalanceCache = walletBalanceCache;
+        this.enabled = cache.isEnabled() && cache.isClusterInvalidation();
+        this.channel = WalletChangePublisher.channelName(cache.getNotifyChannel());
+        this.listenTimeoutMillis = (int) Math.max(1, cache.getListenTimeout().toMillis());
+        this.reconnectDelayMillis = cache.getReconnectDelay().toMillis();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        listener = new Thread(this::listenLoop, "wallet-change-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    public void apply(List<String> payloads) {
+        Map<UUID, WalletSnapshot> latest = new HashMap<>();
+        for (String payload : payloads) {
+            try {
+                WalletSnapshot wallet = WalletChangePublisher.decode(payload);
+                latest.merge(wallet.walletId(), wallet,
+                        (current, next) -> current.version() >= next.version() ? current : next);
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring wallet change notification: {}", e.getMessage());
+            }
+        }
+        for (WalletSnapshot wallet : latest.values()) {
+            walletBalanceCache.refresh(wallet.walletId(), wallet.balance(), wallet.version());
+        }
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                walletBalanceCache.invalidateAll();
+                log.info("Listening for wallet balance changes on channel {}", channel);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(listenTimeoutMillis);
+                    if (notifications != null && notifications.length > 0) {
+                        List<String> payloads = new ArrayList<>(notifications.length);
+                        for (PGNotification notification : notifications) {
+                            payloads.add(notification.getParameter());
+                        }
+                        apply(payloads);
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                walletBalanceCache.invalidateAll();
+                log.warn("Wallet change listener disconnected, reconnecting in {} ms", reconnectDelayMillis, e);
+                try {
+                    Thread.sleep(reconnectDelayMillis);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+            try {
+                listener.join(listenTimeoutMillis * 2L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.bankaccount.cache;
+
+import com.example.bankaccount.config.WalletProperties;
+import com.example.bankaccount.model.Money;
+import com.example.bankaccount.repository.WalletSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Component
+public class WalletChangePublisher implements InitializingBean, DisposableBean {
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+
+    private static final String NOTIFY_ALL = """
+            SELECT pg_notify(?, payload) FROM unnest(?) AS payload""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final String channel;
+    private final long publishIntervalMillis;
+    private final Map<UUID, WalletSnapshot> pending = new ConcurrentHashMap<>();
+    private ScheduledExecutorService executor;
+
+    public WalletChangePublisher(JdbcTemplate jdbcTemplate, WalletProperties properties) {
+        WalletProperties.Cache cache = properties.getCache();
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = cache.isEnabled() && cache.isClusterInvalidation();
+        this.channel = channelName(cache.getNotifyChannel());
+        this.publishIntervalMillis = Math.max(1, cache.getPublishInterval().toMillis());
+    }
+
+    static String channelName(String channel) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid notification channel name: " + channel);
+        }
+        return channel;
+    }
+
+    static String encode(WalletSnapshot wallet) {
+        return wallet.walletId() + "," + wallet.version() + "," + wallet.balance().minorUnits();
+    }
+
+    static WalletSnapshot decode(String payload) {
+        int first = payload.indexOf(',');
+        int second = payload.indexOf(',', first + 1);
+        if (first < 0 || second < 0) {
+            throw new IllegalArgumentException("Malformed wallet change payload: " + payload);
+        }
+        return new WalletSnapshot(
+                UUID.fromString(payload.substring(0, first)),
+                Money.ofMinorUnits(Long.parseLong(payload.substring(second + 1))),
+                Long.parseLong(payload.substring(first + 1, second)));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "wallet-change-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::flush, publishIntervalMillis, publishIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void publish(UUID walletId, Money balance, long version) {
+        if (enabled) {
+            pending.merge(walletId, new WalletSnapshot(walletId, balance, version),
+                    (current, next) -> current.version() >= next.version() ? current : next);
+        }
+    }
+
+    void flush() {
+        List<String> payloads = new ArrayList<>();
+        for (UUID walletId : pending.keySet()) {
+            WalletSnapshot wallet = pending.remove(walletId);
+            if (wallet != null) {
+                payloads.add(encode(wallet));
+            }
+        }
+        if (payloads.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(NOTIFY_ALL);
+                statement.setString(1, channel);
+                statement.setArray(2, connection.createArrayOf("text", payloads.toArray()));
+                return statement;
+            }, (ResultSetExtractor<Void>) resultSet -> null);
+        } catch (DataAccessException e) {
+            log.warn("Failed to publish {} wallet balance changes, peers rely on cache expiry", payloads.size(), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdown();
+            flush();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.bankaccount.config;
+
+public enum LockingStrategy {
+    OPTIMISTIC,
+    PESSIMISTIC,
+    NOWAIT
+}
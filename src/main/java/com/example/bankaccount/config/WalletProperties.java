@@ -0,0 +1,196 @@
+package com.example.bankaccount.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "wallet")
+public class WalletProperties {
+
+    private WritePath writePath = WritePath.JPA;
+    private final Locking locking = new Locking();
+    private final Retry retry = new Retry();
+    private final Hot hot = new Hot();
+    private final Batch batch = new Batch();
+    private final Cache cache = new Cache();
+    private final Idempotency idempotency = new Idempotency();
+    private final Bulk bulk = new Bulk();
+    private final Lookup lookup = new Lookup();
+    private final Metrics metrics = new Metrics();
+    private final Admission admission = new Admission();
+    private final RateLimit rateLimit = new RateLimit();
+    private final Sharding sharding = new Sharding();
+    private final Memory memory = new Memory();
+    private final Replicas replicas = new Replicas();
+    private final Holds holds = new Holds();
+
+    @Getter
+    @Setter
+    public static class Locking {
+        private LockingStrategy strategy = LockingStrategy.OPTIMISTIC;
+        private Duration lockTimeout = Duration.ofSeconds(2);
+        private Map<UUID, LockingStrategy> walletStrategies = new HashMap<>();
+
+        public LockingStrategy strategyFor(UUID walletId) {
+            return walletId == null ? strategy : walletStrategies.getOrDefault(walletId, strategy);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Retry {
+        private int maxAttempts = 3;
+        private Duration initialBackoff = Duration.ofMillis(5);
+        private double multiplier = 2.0;
+        private Duration maxBackoff = Duration.ofMillis(100);
+        private double budgetRatio = 0.1;
+        private int budgetCapacity = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class Hot {
+        private boolean enabled = false;
+        private Set<UUID> walletIds = new HashSet<>();
+        private int lanes = 8;
+        private int queueCapacity = 10_000;
+        private Duration timeout = Duration.ofSeconds(5);
+    }
+
+    @Getter
+    @Setter
+    public static class Batch {
+        private boolean enabled = false;
+        private int maxSize = 256;
+        private Duration window = Duration.ofMillis(2);
+        private int queueCapacity = 10_000;
+        private int flushThreads = 2;
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+        private boolean enabled = false;
+        private long maxSize = 100_000;
+        private Duration ttl = Duration.ofSeconds(30);
+        private boolean clusterInvalidation = false;
+        private String notifyChannel = "wallet_balance_changed";
+        private Duration publishInterval = Duration.ofMillis(10);
+        private Duration listenTimeout = Duration.ofMillis(500);
+        private Duration reconnectDelay = Duration.ofSeconds(5);
+    }
+
+    @Getter
+    @Setter
+    public static class Idempotency {
+        private long memoryMaxSize = 100_000;
+        private Duration memoryTtl = Duration.ofMinutes(10);
+        private Duration retention = Duration.ofHours(24);
+        private Duration cleanupInterval = Duration.ofMinutes(10);
+    }
+
+    @Getter
+    @Setter
+    public static class Bulk {
+        private int chunkSize = 500;
+        private int maxAtomicItems = 10_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Lookup {
+        private int maxWallets = 5_000;
+        private int chunkSize = 1_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Metrics {
+        private int trackedContendedWallets = 200;
+        private int topContendedWallets = 20;
+    }
+
+    @Getter
+    @Setter
+    public static class Admission {
+        private boolean enabled = false;
+        private int maxConcurrent = 64;
+        private int maxWaiting = 256;
+        private Duration maxWait = Duration.ofMillis(500);
+        private Duration retryAfter = Duration.ofSeconds(1);
+    }
+
+    @Getter
+    @Setter
+    public static class RateLimit {
+        private boolean enabled = false;
+        private boolean perClient = false;
+        private long maxTrackedKeys = 100_000;
+        private Duration idleTimeout = Duration.ofMinutes(5);
+        private Tier defaultTier = new Tier();
+        private Map<String, Tier> tiers = new HashMap<>();
+        private Map<UUID, String> walletTiers = new HashMap<>();
+
+        @Getter
+        @Setter
+        public static class Tier {
+            private double permitsPerSecond = 50;
+            private int burst = 100;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Sharding {
+        private boolean enabled = false;
+        private Set<UUID> walletIds = new HashSet<>();
+        private int shards = 16;
+    }
+
+    @Getter
+    @Setter
+    public static class Memory {
+        private String walDirectory = "data/wal";
+        private DataSize segmentSize = DataSize.ofMegabytes(64);
+        private Duration groupCommitWindow = Duration.ofNanos(500_000);
+        private Duration flushInterval = Duration.ofSeconds(1);
+        private int initialCapacity = 65_536;
+    }
+
+    @Getter
+    @Setter
+    public static class Replicas {
+        private boolean enabled = false;
+        private Duration pollInterval = Duration.ofMillis(50);
+        private List<Replica> datasources = new ArrayList<>();
+
+        @Getter
+        @Setter
+        public static class Replica {
+            private String url;
+            private String username;
+            private String password;
+            private int maximumPoolSize = 10;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Holds {
+        private Duration defaultTtl = Duration.ofDays(7);
+        private Duration maxTtl = Duration.ofDays(30);
+        private Duration sweepInterval = Duration.ofMinutes(1);
+        private int sweepChunkSize = 500;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.bankaccount.config;
+
+import com.example.bankaccount.handler.AdmissionControlInterceptor;
+import com.example.bankaccount.replica.ReadConsistencyInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final AdmissionControlInterceptor admissionControlInterceptor;
+    private final ReadConsistencyInterceptor readConsistencyInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(admissionControlInterceptor).addPathPatterns("/api/v1/wallet/**");
+        registry.addInterceptor(readConsistencyInterceptor).addPathPatterns("/api/v1/wallet/**");
+    }
+}
@@ -1,13 +1,30 @@
 package com.example.bankaccount.controller;
 
+import com.example.bankaccount.model.WalletBalanceLookupRequestModel;
+import com.example.bankaccount.model.WalletBalanceLookupResponseModel;
 import com.example.bankaccount.model.WalletBalanceResponseModel;
+import com.example.bankaccount.model.WalletHoldRequestModel;
+import com.example.bankaccount.model.WalletHoldResponseModel;
 import com.example.bankaccount.model.WalletOperationRequestModel;
-import com.example.bankaccount.model.enums.OperationType;
+import com.example.bankaccount.model.WalletTransactionPageResponseModel;
+import com.example.bankaccount.model.enums.ExportFormat;
+import com.example.bankaccount.model.validation.WalletOperationRequestValidator;
+import com.example.bankaccount.ratelimit.WalletRateLimiter;
+import com.example.bankaccount.replica.ConsistencyTokenService;
+import com.example.bankaccount.replica.ReadConsistency;
+import com.example.bankaccount.service.WalletBulkService;
+import com.example.bankaccount.service.WalletExportService;
+import com.example.bankaccount.service.WalletLedgerService;
+import com.example.bankaccount.service.WalletOperationDispatcher;
 import com.example.bankaccount.service.WalletService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import java.io.IOException;
 import java.util.UUID;
 
 @RestController
@@ -16,18 +33,80 @@ import java.util.UUID;
 public class WalletController {
 
     private final WalletService walletService;
+    private final WalletOperationDispatcher walletOperationDispatcher;
+    private final WalletLedgerService walletLedgerService;
+    private final WalletBulkService walletBulkService;
+    private final WalletExportService walletExportService;
+    private final WalletRateLimiter walletRateLimiter;
+    private final ConsistencyTokenService consistencyTokenService;
 
     @GetMapping("/{walletId}")
     public ResponseEntity<WalletBalanceResponseModel> getWalletBalance(@PathVariable UUID walletId) {
         return ResponseEntity.ok(walletService.getWalletBalance(walletId));
     }
 
+    @PostMapping("/balances")
+    public ResponseEntity<WalletBalanceLookupResponseModel> getWalletBalances(
+            @RequestBody @Valid WalletBalanceLookupRequestModel request) {
+        return ResponseEntity.ok(walletService.getWalletBalances(request.walletIds()));
+    }
+
+    @GetMapping("/{walletId}/transactions")
+    public ResponseEntity<WalletTransactionPageResponseModel> getTransactions(
+            @PathVariable UUID walletId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(walletLedgerService.getTransactions(walletId, cursor, limit));
+    }
+
     @PostMapping()
     public ResponseEntity<WalletBalanceResponseModel> depositAndWithdraw(
-            @RequestBody @Valid WalletOperationRequestModel request) {
-        if (request.operationType() == OperationType.WITHDRAW)
-            return ResponseEntity.ok(walletService.withdraw(request));
-        return ResponseEntity.ok(walletService.deposit(request));
+            @RequestBody WalletOperationRequestModel request,
+            @RequestHeader(name = "X-Client-Id", required = false) String clientId) {
+        WalletOperationRequestValidator.validate(request);
+        walletRateLimiter.acquire(request.walletId(), clientId);
+        return written(walletOperationDispatcher.dispatch(request));
+    }
+
+    @PostMapping("/holds")
+    public ResponseEntity<WalletHoldResponseModel> placeHold(
+            @RequestBody @Valid WalletHoldRequestModel request,
+            @RequestHeader(name = "X-Client-Id", required = false) String clientId) {
+        walletRateLimiter.acquire(request.walletId(), clientId);
+        return written(walletService.placeHold(request));
+    }
+
+    @PostMapping("/holds/{holdId}/capture")
+    public ResponseEntity<WalletHoldResponseModel> captureHold(@PathVariable UUID holdId) {
+        return written(walletService.captureHold(holdId));
+    }
+
+    @PostMapping("/holds/{holdId}/release")
+    public ResponseEntity<WalletHoldResponseModel> releaseHold(@PathVariable UUID holdId) {
+        return written(walletService.releaseHold(holdId));
+    }
+
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public void bulkOperations(
+            @RequestParam(defaultValue = "false") boolean atomic,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        walletBulkService.process(request.getInputStream(), atomic, response.getOutputStream());
+    }
+
+    @GetMapping("/export")
+    public void exportWallets(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            HttpServletResponse response) throws IOException {
+        response.setContentType(format == ExportFormat.CSV ? "text/csv;charset=UTF-8" : MediaType.APPLICATION_NDJSON_VALUE);
+        walletExportService.export(format, response.getOutputStream());
+    }
 
+    private <T> ResponseEntity<T> written(T body) {
+        String token = consistencyTokenService.issueToken();
+        return token == null
+                ? ResponseEntity.ok(body)
+                : ResponseEntity.ok().header(ReadConsistency.TOKEN_HEADER, token).body(body);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,281 @@
+package com.example.bankaccount.engine;
+
+import com.example.bankaccount.config.WalletProperties;
+import com.example.bankaccount.config.WritePath;
+import com.example.bankaccount.entity.WalletTransaction;
+import com.example.bankaccount.exception.InsufficientFundsException;
+import com.example.bankaccount.exception.InvalidOperationException;
+import com.example.bankaccount.exception.WalletNotFoundException;
+import com.example.bankaccount.model.Money;
+import com.example.bankaccount.model.WalletBalanceResponseModel;
+import com.example.bankaccount.model.WalletOperationRequestModel;
+import com.example.bankaccount.model.enums.OperationType;
+import com.example.bankaccount.repository.WalletRepository;
+import com.example.bankaccount.repository.WalletSnapshot;
+import com.example.bankaccount.service.WalletLedgerService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+public class InMemoryWalletEngine implements InitializingBean, DisposableBean {
+
+    private static final String CHECKPOINT_NAME = "in-memory-engine";
+    private static final int WALLET_LOCK_STRIPES = 64;
+
+    private final WalletRepository walletRepository;
+    private final WalletEngineSnapshotWriter snapshotWriter;
+    private final boolean enabled;
+    private final WalletBalanceTable balances;
+    private final WalletWriteAheadLog writeAheadLog;
+    private final ReentrantLock[] walletLocks = new ReentrantLock[WALLET_LOCK_STRIPES];
+    private final ReentrantLock tableLock = new ReentrantLock();
+    private List<WalletTransaction> pendingTransactions = new ArrayList<>();
+
+    public InMemoryWalletEngine(WalletRepository walletRepository, WalletEngineSnapshotWriter snapshotWriter,
+                                WalletProperties properties) {
+        WalletProperties.Memory memory = properties.getMemory();
+        this.walletRepository = walletRepository;
+        this.snapshotWriter = snapshotWriter;
+        this.enabled = properties.getWritePath() == WritePath.MEMORY;
+        this.balances = enabled ? new WalletBalanceTable(memory.getInitialCapacity()) : null;
+        this.writeAheadLog = enabled
+                ? new WalletWriteAheadLog(Path.of(memory.getWalDirectory()),
+                        (int) memory.getSegmentSize().toBytes(), memory.getGroupCommitWindow())
+                : null;
+        for (int stripe = 0; stripe < WALLET_LOCK_STRIPES; stripe++) {
+            walletLocks[stripe] = new ReentrantLock();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        long started = System.nanoTime();
+        walletRepository.forEachWallet(wallet -> balances.put(wallet.walletId(), wallet.balance(), false));
+        long checkpoint = walletRepository.findEngineCheckpoint(CHECKPOINT_NAME);
+        long lastSequence = writeAheadLog.recover(checkpoint, record -> {
+            balances.put(record.walletId(), record.balance(), true);
+            pendingTransactions.add(WalletLedgerService.entry(
+                    record.walletId(), record.operationType(), record.amount(), record.balance()));
+        });
+        writeAheadLog.open();
+        log.info("Loaded {} wallets and replayed {} WAL records in {} ms",
+                balances.size(), lastSequence - checkpoint, (System.nanoTime() - started) / 1_000_000);
+        flush();
+    }
+
+    public WalletBalanceResponseModel getWalletBalance(UUID walletId) {
+        return new WalletBalanceResponseModel(walletId, load(walletId, "Wallet not found"));
+    }
+
+    public Map<UUID, Money> getWalletBalances(Collection<UUID> walletIds) {
+        Map<UUID, Money> found = new HashMap<>(walletIds.size() * 2);
+        tableLock.lock();
+        try {
+            for (UUID walletId : walletIds) {
+                Money balance = balances.get(walletId);
+                if (balance != null) {
+                    found.put(walletId, balance);
+                }
+            }
+        } finally {
+            tableLock.unlock();
+        }
+        return found;
+    }
+
+    public WalletBalanceResponseModel apply(WalletOperationRequestModel request) {
+        if (request.idempotencyKey() != null) {
+            throw new InvalidOperationException("Idempotency keys are not supported by the in-memory write path");
+        }
+        return switch (request.operationType()) {
+            case WITHDRAW -> withdraw(request.walletId(), request.amount());
+            case TRANSFER -> transfer(request.walletId(), request.targetWalletId(), request.amount());
+            case DEPOSIT -> deposit(request.walletId(), request.amount());
+        };
+    }
+
+    private WalletBalanceResponseModel deposit(UUID walletId, Money amount) {
+        load(walletId, "Wallet not found");
+        ReentrantLock walletLock = walletLocks[stripe(walletId)];
+        long sequence;
+        Money balance;
+        walletLock.lock();
+        try {
+            balance = loadedBalance(walletId).add(amount);
+            sequence = record(walletId, OperationType.DEPOSIT, amount, balance);
+        } finally {
+            walletLock.unlock();
+        }
+        writeAheadLog.awaitDurable(sequence);
+        return new WalletBalanceResponseModel(walletId, balance);
+    }
+
+    private WalletBalanceResponseModel withdraw(UUID walletId, Money amount) {
+        load(walletId, "Wallet not found");
+        ReentrantLock walletLock = walletLocks[stripe(walletId)];
+        long sequence;
+        Money balance;
+        walletLock.lock();
+        try {
+            balance = loadedBalance(walletId);
+            if (balance.compareTo(amount) < 0) {
+                throw new InsufficientFundsException("Insufficient funds");
+            }
+            balance = balance.subtract(amount);
+            sequence = record(walletId, OperationType.WITHDRAW, amount, balance);
+        } finally {
+            walletLock.unlock();
+        }
+        writeAheadLog.awaitDurable(sequence);
+        return new WalletBalanceResponseModel(walletId, balance);
+    }
+
+    private WalletBalanceResponseModel transfer(UUID sourceId, UUID targetId, Money amount) {
+        if (sourceId == null || targetId == null || sourceId.equals(targetId)) {
+            throw new InvalidOperationException("Transfer requires two different wallets");
+        }
+        load(sourceId, "Wallet not found");
+        load(targetId, "Target wallet not found");
+        int sourceStripe = stripe(sourceId);
+        int targetStripe = stripe(targetId);
+        ReentrantLock firstLock = walletLocks[Math.min(sourceStripe, targetStripe)];
+        ReentrantLock secondLock = walletLocks[Math.max(sourceStripe, targetStripe)];
+        long sequence;
+        Money sourceBalance;
+        firstLock.lock();
+        secondLock.lock();
+        try {
+            sourceBalance = loadedBalance(sourceId);
+            Money targetBalance = loadedBalance(targetId);
+            if (sourceBalance.compareTo(amount) < 0) {
+                throw new InsufficientFundsException("Insufficient funds");
+            }
+            sourceBalance = sourceBalance.subtract(amount);
+            record(sourceId, OperationType.TRANSFER, amount.negate(), sourceBalance);
+            sequence = record(targetId, OperationType.TRANSFER, amount, targetBalance.add(amount));
+        } finally {
+            secondLock.unlock();
+            firstLock.unlock();
+        }
+        writeAheadLog.awaitDurable(sequence);
+        return new WalletBalanceResponseModel(sourceId, sourceBalance);
+    }
+
+    @Scheduled(fixedDelayString = "${wallet.memory.flush-interval:PT1S}")
+    public synchronized void flush() {
+        if (!enabled) {
+            return;
+        }
+        List<WalletSnapshot> dirty;
+        List<WalletTransaction> transactions;
+        long sequence;
+        tableLock.lock();
+        try {
+            dirty = balances.drainDirty();
+            transactions = pendingTransactions;
+            pendingTransactions = new ArrayList<>();
+            sequence = writeAheadLog.lastSequence();
+        } finally {
+            tableLock.unlock();
+        }
+        if (dirty.isEmpty() && transactions.isEmpty()) {
+            return;
+        }
+        try {
+            snapshotWriter.write(CHECKPOINT_NAME, dirty, transactions, sequence);
+        } catch (RuntimeException e) {
+            tableLock.lock();
+            try {
+                dirty.forEach(wallet -> balances.markDirty(wallet.walletId()));
+                transactions.addAll(pendingTransactions);
+                pendingTransactions = transactions;
+            } finally {
+                tableLock.unlock();
+            }
+            throw e;
+        }
+        try {
+            writeAheadLog.truncate(sequence);
+        } catch (IOException e) {
+            log.warn("Failed to remove WAL segments up to sequence {}", sequence, e);
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        try {
+            flush();
+        } finally {
+            writeAheadLog.close();
+        }
+    }
+
+    private long record(UUID walletId, OperationType operationType, Money amount, Money balance) {
+        tableLock.lock();
+        try {
+            long sequence = writeAheadLog.append(walletId, operationType, amount, balance);
+            balances.put(walletId, balance, true);
+            pendingTransactions.add(WalletLedgerService.entry(walletId, operationType, amount, balance));
+            return sequence;
+        } finally {
+            tableLock.unlock();
+        }
+    }
+
+    private Money load(UUID walletId, String notFoundMessage) {
+        Money balance = loadedBalance(walletId);
+        if (balance != null) {
+            return balance;
+        }
+        Money stored = walletRepository.findById(walletId)
+                .orElseThrow(() -> new WalletNotFoundException(notFoundMessage))
+                .getBalance();
+        tableLock.lock();
+        try {
+            balance = balances.get(walletId);
+            if (balance == null) {
+                balances.put(walletId, stored, false);
+                balance = stored;
+            }
+            return balance;
+        } finally {
+            tableLock.unlock();
+        }
+    }
+
+    private Money loadedBalance(UUID walletId) {
+        tableLock.lock();
+        try {
+            return balances.get(walletId);
+        } finally {
+            tableLock.unlock();
+        }
+    }
+
+    private static int stripe(UUID walletId) {
+        return walletId.hashCode() & (WALLET_LOCK_STRIPES - 1);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.bankaccount.engine;
+
+import com.example.bankaccount.model.Money;
+import com.example.bankaccount.model.enums.OperationType;
+import java.util.UUID;
+
+public record WalRecord(long sequence, UUID walletId, OperationType operationType, Money amount, Money balance) {
+}
@@ -0,0 +1,123 @@
+package com.example.bankaccount.engine;
+
+import com.example.bankaccount.model.Money;
+import com.example.bankaccount.repository.WalletSnapshot;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class WalletBalanceTable {
+
+    private static final int MAX_LOAD_PERCENT = 60;
+
+    private long[] mostSignificantBits;
+    private long[] leastSignificantBits;
+    private long[] balances;
+    private boolean[] used;
+    private boolean[] dirty;
+    private int mask;
+    private int size;
+
+    public WalletBalanceTable(int expectedSize) {
+        allocate(Integer.highestOneBit(Math.max(16, expectedSize * 100 / MAX_LOAD_PERCENT) - 1) << 1);
+    }
+
+    public Money get(UUID walletId) {
+        int slot = find(walletId.getMostSignificantBits(), walletId.getLeastSignificantBits());
+        return slot < 0 ? null : Money.ofMinorUnits(balances[slot]);
+    }
+
+    public void put(UUID walletId, Money balance, boolean markDirty) {
+        long msb = walletId.getMostSignificantBits();
+        long lsb = walletId.getLeastSignificantBits();
+        int slot = find(msb, lsb);
+        if (slot < 0) {
+            if ((size + 1) * 100L > balances.length * (long) MAX_LOAD_PERCENT) {
+                resize();
+            }
+            slot = freeSlot(msb, lsb);
+            mostSignificantBits[slot] = msb;
+            leastSignificantBits[slot] = lsb;
+            used[slot] = true;
+            size++;
+        }
+        balances[slot] = balance.minorUnits();
+        dirty[slot] |= markDirty;
+    }
+
+    public void markDirty(UUID walletId) {
+        int slot = find(walletId.getMostSignificantBits(), walletId.getLeastSignificantBits());
+        if (slot >= 0) {
+            dirty[slot] = true;
+        }
+    }
+
+    public List<WalletSnapshot> drainDirty() {
+        List<WalletSnapshot> snapshots = new ArrayList<>();
+        for (int slot = 0; slot < balances.length; slot++) {
+            if (dirty[slot]) {
+                dirty[slot] = false;
+                snapshots.add(new WalletSnapshot(
+                        new UUID(mostSignificantBits[slot], leastSignificantBits[slot]), Money.ofMinorUnits(balances[slot]), 0));
+            }
+        }
+        return snapshots;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int find(long msb, long lsb) {
+        for (int slot = hash(msb, lsb) & mask; used[slot]; slot = (slot + 1) & mask) {
+            if (mostSignificantBits[slot] == msb && leastSignificantBits[slot] == lsb) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private int freeSlot(long msb, long lsb) {
+        int slot = hash(msb, lsb) & mask;
+        while (used[slot]) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        long[] oldMostSignificantBits = mostSignificantBits;
+        long[] oldLeastSignificantBits = leastSignificantBits;
+        long[] oldBalances = balances;
+        boolean[] oldUsed = used;
+        boolean[] oldDirty = dirty;
+        allocate(oldBalances.length << 1);
+        for (int oldSlot = 0; oldSlot < oldBalances.length; oldSlot++) {
+            if (oldUsed[oldSlot]) {
+                int slot = freeSlot(oldMostSignificantBits[oldSlot], oldLeastSignificantBits[oldSlot]);
+                mostSignificantBits[slot] = oldMostSignificantBits[oldSlot];
+                leastSignificantBits[slot] = oldLeastSignificantBits[oldSlot];
+                used[slot] = true;
+                balances[slot] = oldBalances[oldSlot];
+                dirty[slot] = oldDirty[oldSlot];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        mostSignificantBits = new long[capacity];
+        leastSignificantBits = new long[capacity];
+        balances = new long[capacity];
+        used = new boolean[capacity];
+        dirty = new boolean[capacity];
+        mask = capacity - 1;
+    }
+
+    private static int hash(long msb, long lsb) {
+        long h = msb ^ (lsb * 0x9E3779B97F4A7C15L);
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.bankaccount.engine;
+
+import com.example.bankaccount.entity.WalletTransaction;
+import com.example.bankaccount.repository.WalletRepository;
+import com.example.bankaccount.repository.WalletSnapshot;
+import com.example.bankaccount.service.WalletLedgerService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class WalletEngineSnapshotWriter {
+
+    private final WalletRepository walletRepository;
+    private final WalletLedgerService walletLedgerService;
+
+    @Transactional
+    public void write(String checkpointName, List<WalletSnapshot> wallets, List<WalletTransaction> transactions, long sequence) {
+        walletRepository.batchUpdateBalances(wallets);
+        walletLedgerService.appendAll(transactions);
+        walletRepository.saveEngineCheckpoint(checkpointName, sequence);
+    }
+}
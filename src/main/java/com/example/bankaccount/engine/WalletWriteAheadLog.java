@@ -0,0 +1,235 @@
+package com.example.bankaccount.engine;
+
+import com.example.bankaccount.exception.ServiceOverloadedException;
+import com.example.bankaccount.model.Money;
+import com.example.bankaccount.model.enums.OperationType;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+public class WalletWriteAheadLog implements Closeable {
+
+    public static final int RECORD_SIZE = 48;
+
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final OperationType[] OPERATION_TYPES = OperationType.values();
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long groupCommitWindowNanos;
+    private final Object durabilityMonitor = new Object();
+    private final CRC32C checksum = new CRC32C();
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private volatile long appendedSequence;
+    private volatile long durableSequence;
+    private volatile boolean running;
+    private Thread syncer;
+
+    public WalletWriteAheadLog(Path directory, int segmentSize, Duration groupCommitWindow) {
+        this.directory = directory;
+        this.segmentSize = segmentSize - segmentSize % RECORD_SIZE;
+        this.groupCommitWindowNanos = groupCommitWindow.toNanos();
+    }
+
+    public long recover(long checkpoint, Consumer<WalRecord> consumer) throws IOException {
+        Files.createDirectories(directory);
+        long lastSequence = checkpoint;
+        for (Path segment : segments()) {
+            try (FileChannel segmentChannel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                ByteBuffer records = segmentChannel.map(FileChannel.MapMode.READ_ONLY, 0, segmentChannel.size());
+                while (records.remaining() >= RECORD_SIZE) {
+                    WalRecord record = read(records);
+                    if (record == null) {
+                        break;
+                    }
+                    if (record.sequence() > lastSequence) {
+                        consumer.accept(record);
+                        lastSequence = record.sequence();
+                    }
+                }
+            }
+        }
+        appendedSequence = lastSequence;
+        durableSequence = lastSequence;
+        return lastSequence;
+    }
+
+    public synchronized void open() throws IOException {
+        openSegment(appendedSequence + 1);
+        running = true;
+        syncer = new Thread(this::syncLoop, "wallet-wal-sync");
+        syncer.setDaemon(true);
+        syncer.start();
+    }
+
+    public synchronized long append(UUID walletId, OperationType operationType, Money amount, Money balance) {
+        if (!running) {
+            throw new ServiceOverloadedException("Write-ahead log is closed");
+        }
+        if (buffer.remaining() < RECORD_SIZE) {
+            buffer.force();
+            try {
+                channel.close();
+                openSegment(appendedSequence + 1);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        long sequence = appendedSequence + 1;
+        int start = buffer.position();
+        buffer.putLong(sequence)
+                .putLong(walletId.getMostSignificantBits())
+                .putLong(walletId.getLeastSignificantBits())
+                .putLong(amount.minorUnits())
+                .putLong(balance.minorUnits())
+                .put((byte) operationType.ordinal())
+                .put((byte) 0)
+                .putShort((short) 0);
+        checksum.reset();
+        checksum.update(buffer.slice(start, RECORD_SIZE - Integer.BYTES));
+        buffer.putInt((int) checksum.getValue());
+        appendedSequence = sequence;
+        return sequence;
+    }
+
+    public void awaitDurable(long sequence) {
+        synchronized (durabilityMonitor) {
+            durabilityMonitor.notifyAll();
+            while (durableSequence < sequence) {
+                if (!running) {
+                    throw new ServiceOverloadedException("Write-ahead log is closed");
+                }
+                try {
+                    durabilityMonitor.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ServiceOverloadedException("Wallet operation interrupted");
+                }
+            }
+        }
+    }
+
+    public long lastSequence() {
+        return appendedSequence;
+    }
+
+    public void truncate(long checkpoint) throws IOException {
+        List<Path> segments = segments();
+        for (int i = 0; i + 1 < segments.size(); i++) {
+            if (firstSequence(segments.get(i + 1)) - 1 <= checkpoint) {
+                Files.deleteIfExists(segments.get(i));
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (durabilityMonitor) {
+            running = false;
+            durabilityMonitor.notifyAll();
+        }
+        if (syncer != null) {
+            try {
+                syncer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this) {
+            if (channel != null) {
+                buffer.force();
+                channel.close();
+            }
+        }
+    }
+
+    private void syncLoop() {
+        while (true) {
+            synchronized (durabilityMonitor) {
+                while (running && appendedSequence == durableSequence) {
+                    try {
+                        durabilityMonitor.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (!running) {
+                    return;
+                }
+            }
+            if (groupCommitWindowNanos > 0) {
+                LockSupport.parkNanos(groupCommitWindowNanos);
+            }
+            long target;
+            MappedByteBuffer current;
+            synchronized (this) {
+                target = appendedSequence;
+                current = buffer;
+            }
+            current.force();
+            synchronized (durabilityMonitor) {
+                durableSequence = target;
+                durabilityMonitor.notifyAll();
+            }
+        }
+    }
+
+    private void openSegment(long firstSequence) throws IOException {
+        Path segment = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+        channel = FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+    }
+
+    private WalRecord read(ByteBuffer records) {
+        int start = records.position();
+        long sequence = records.getLong();
+        if (sequence == 0) {
+            return null;
+        }
+        UUID walletId = new UUID(records.getLong(), records.getLong());
+        long amount = records.getLong();
+        long balance = records.getLong();
+        int operationType = records.get();
+        records.get();
+        records.getShort();
+        checksum.reset();
+        checksum.update(records.slice(start, RECORD_SIZE - Integer.BYTES));
+        if (records.getInt() != (int) checksum.getValue() || operationType >= OPERATION_TYPES.length) {
+            return null;
+        }
+        return new WalRecord(sequence, walletId, OPERATION_TYPES[operationType],
+                Money.ofMinorUnits(amount), Money.ofMinorUnits(balance));
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long firstSequence(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
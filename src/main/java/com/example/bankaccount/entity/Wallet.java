@@ -1,9 +1,9 @@
 package com.example.bankaccount.entity;
 
+import com.example.bankaccount.model.Money;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.proxy.HibernateProxy;
-import java.math.BigDecimal;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -22,11 +22,19 @@ public class Wallet {
     private UUID walletId;
 
     @Column(nullable = false)
-    private BigDecimal balance = BigDecimal.ZERO;
+    private Money balance = Money.ZERO;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Money held = Money.ZERO;
 
     @Version
     private Long version = 0L;
 
+    public Money getAvailable() {
+        return balance.subtract(held);
+    }
+
     @PrePersist
     public void prePersist() {
         if (walletId == null) {
@@ -0,0 +1,64 @@
+package com.example.bankaccount.entity;
+
+import com.example.bankaccount.model.Money;
+import com.example.bankaccount.model.enums.OperationType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.proxy.HibernateProxy;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@ToString
+@Entity
+@Table(name = "wallet_idempotency_keys")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WalletIdempotencyKey {
+
+    @Id
+    @Column(name = "idempotency_key")
+    private String idempotencyKey;
+
+    @Column(name = "wallet_id", nullable = false)
+    private UUID walletId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation_type")
+    private OperationType operationType;
+
+    private Money amount;
+
+    @Column(name = "target_wallet_id")
+    private UUID targetWalletId;
+
+    private Money balance;
+
+    @Column(name = "created_at", nullable = false, insertable = false, updatable = false)
+    private Instant createdAt;
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null) {
+            return false;
+        }
+        Class<?> objectEffectiveClass = o instanceof HibernateProxy proxy ? proxy.getHibernateLazyInitializer().getPersistentClass() : o.getClass();
+        Class<?> thisEffectiveClass = this instanceof HibernateProxy proxy ? proxy.getHibernateLazyInitializer().getPersistentClass() : this.getClass();
+        if (thisEffectiveClass != objectEffectiveClass) {
+            return false;
+        }
+        WalletIdempotencyKey key = (WalletIdempotencyKey) o;
+        return getIdempotencyKey() != null && Objects.equals(getIdempotencyKey(), key.getIdempotencyKey());
+    }
+
+    @Override
+    public final int hashCode() {
+        return this instanceof HibernateProxy proxy ? proxy.getHibernateLazyInitializer().getPersistentClass().hashCode() : getClass().hashCode();
+    }
+}
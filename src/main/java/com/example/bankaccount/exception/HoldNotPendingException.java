@@ -0,0 +1,7 @@
+package com.example.bankaccount.exception;
+
+public class HoldNotPendingException extends RuntimeException {
+    public HoldNotPendingException(String message) {
+        super(message, null, false, false);
+    }
+}
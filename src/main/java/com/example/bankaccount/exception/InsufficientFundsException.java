@@ -2,6 +2,6 @@ package com.example.bankaccount.exception;
 
 public class InsufficientFundsException extends RuntimeException {
     public InsufficientFundsException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -2,6 +2,6 @@ package com.example.bankaccount.exception;
 
 public class InvalidOperationException extends RuntimeException {
     public InvalidOperationException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -2,6 +2,6 @@ package com.example.bankaccount.exception;
 
 public class WalletNotFoundException extends RuntimeException {
     public WalletNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -0,0 +1,63 @@
+package com.example.bankaccount.handler;
+
+import com.example.bankaccount.model.WalletOperationRequestModel;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class ErrorResponseBodies {
+
+    static final String INVALID_REQUEST_BODY = "Invalid request body";
+    static final String CONCURRENT_MODIFICATION = "Wallet was modified concurrently, retry later";
+    static final String LOCK_UNAVAILABLE = "Wallet is locked by a concurrent operation, retry later";
+
+    private static final byte[] PREFIX = "{\"message\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SUFFIX = "\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NULL_MESSAGE = "{\"message\":null}".getBytes(StandardCharsets.UTF_8);
+
+    private static final List<String> FIXED_MESSAGES = List.of(
+            "Wallet not found",
+            "Target wallet not found",
+            "Insufficient funds",
+            "Transfer requires two different wallets",
+            INVALID_REQUEST_BODY,
+            CONCURRENT_MODIFICATION,
+            LOCK_UNAVAILABLE,
+            validation("walletId", WalletOperationRequestModel.WALLET_ID_REQUIRED),
+            validation("operationType", WalletOperationRequestModel.OPERATION_TYPE_REQUIRED),
+            validation("amount", WalletOperationRequestModel.AMOUNT_REQUIRED),
+            validation("amount", WalletOperationRequestModel.AMOUNT_NOT_POSITIVE),
+            validation("idempotencyKey", WalletOperationRequestModel.IDEMPOTENCY_KEY_TOO_LONG),
+            validation("transferTargetValid", WalletOperationRequestModel.TRANSFER_TARGET_INVALID));
+
+    private final Map<String, byte[]> precomputed = new HashMap<>();
+
+    ErrorResponseBodies() {
+        for (String message : FIXED_MESSAGES) {
+            precomputed.put(message, serialize(message));
+        }
+    }
+
+    byte[] get(String message) {
+        if (message == null) {
+            return NULL_MESSAGE;
+        }
+        byte[] body = precomputed.get(message);
+        return body != null ? body : serialize(message);
+    }
+
+    static String validation(String field, String message) {
+        return field + ": " + message;
+    }
+
+    static byte[] serialize(String message) {
+        byte[] quoted = JsonStringEncoder.getInstance().quoteAsUTF8(message);
+        byte[] body = new byte[PREFIX.length + quoted.length + SUFFIX.length];
+        System.arraycopy(PREFIX, 0, body, 0, PREFIX.length);
+        System.arraycopy(quoted, 0, body, PREFIX.length, quoted.length);
+        System.arraycopy(SUFFIX, 0, body, PREFIX.length + quoted.length, SUFFIX.length);
+        return body;
+    }
+}
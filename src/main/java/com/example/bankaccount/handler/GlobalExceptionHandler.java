@@ -1,49 +1,101 @@
 package com.example.bankaccount.handler;
 
+import com.example.bankaccount.config.WalletProperties;
+import com.example.bankaccount.exception.HoldNotFoundException;
+import com.example.bankaccount.exception.HoldNotPendingException;
 import com.example.bankaccount.exception.InsufficientFundsException;
 import com.example.bankaccount.exception.InvalidOperationException;
+import com.example.bankaccount.exception.RateLimitExceededException;
+import com.example.bankaccount.exception.ServiceOverloadedException;
 import com.example.bankaccount.exception.WalletNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final WalletProperties walletProperties;
+    private final ErrorResponseBodies errorResponseBodies = new ErrorResponseBodies();
+
     @ExceptionHandler(WalletNotFoundException.class)
-    public ResponseEntity<ErrorResponseBody> handleWalletNotFound(WalletNotFoundException ex) {
+    public ResponseEntity<byte[]> handleWalletNotFound(WalletNotFoundException ex) {
         return buildResponse(HttpStatus.NOT_FOUND, ex);
     }
 
     @ExceptionHandler(InsufficientFundsException.class)
-    public ResponseEntity<ErrorResponseBody> handleInsufficientFunds(InsufficientFundsException ex) {
+    public ResponseEntity<byte[]> handleInsufficientFunds(InsufficientFundsException ex) {
         return buildResponse(HttpStatus.CONFLICT, ex);
     }
 
+    @ExceptionHandler(HoldNotFoundException.class)
+    public ResponseEntity<byte[]> handleHoldNotFound(HoldNotFoundException ex) {
+        return buildResponse(HttpStatus.NOT_FOUND, ex);
+    }
+
+    @ExceptionHandler(HoldNotPendingException.class)
+    public ResponseEntity<byte[]> handleHoldNotPending(HoldNotPendingException ex) {
+        return buildResponse(HttpStatus.CONFLICT, ex);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<byte[]> handleConcurrentModification(OptimisticLockingFailureException ex) {
+        return buildResponse(ResponseEntity.status(HttpStatus.CONFLICT), ErrorResponseBodies.CONCURRENT_MODIFICATION);
+    }
+
+    @ExceptionHandler(PessimisticLockingFailureException.class)
+    public ResponseEntity<byte[]> handleLockUnavailable(PessimisticLockingFailureException ex) {
+        return buildResponse(ResponseEntity.status(HttpStatus.CONFLICT), ErrorResponseBodies.LOCK_UNAVAILABLE);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<ErrorResponseBody> handleValidation(MethodArgumentNotValidException ex) {
+    public ResponseEntity<byte[]> handleValidation(MethodArgumentNotValidException ex) {
         String errorMessage = ex.getBindingResult()
                 .getFieldErrors()
                 .stream()
-                .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                .map(error -> ErrorResponseBodies.validation(error.getField(), error.getDefaultMessage()))
                 .findFirst()
-                .orElse("Invalid request body");
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorResponseBody(errorMessage));
+                .orElse(ErrorResponseBodies.INVALID_REQUEST_BODY);
+        return buildResponse(ResponseEntity.status(HttpStatus.BAD_REQUEST), errorMessage);
     }
 
     @ExceptionHandler(InvalidOperationException.class)
-    public ResponseEntity<ErrorResponseBody> handleInvalidOperation(InvalidOperationException ex) {
+    public ResponseEntity<byte[]> handleInvalidOperation(InvalidOperationException ex) {
         return buildResponse(HttpStatus.BAD_REQUEST, ex);
     }
 
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<byte[]> handleServiceOverloaded(ServiceOverloadedException ex) {
+        return buildResponse(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(walletProperties.getAdmission().getRetryAfter().toSeconds())),
+                ex.getMessage());
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<byte[]> handleRateLimitExceeded(RateLimitExceededException ex) {
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return buildResponse(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds)), ex.getMessage());
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
-    public ResponseEntity<ErrorResponseBody> handleIllegalArgument(IllegalArgumentException ex) {
+    public ResponseEntity<byte[]> handleIllegalArgument(IllegalArgumentException ex) {
         return buildResponse(HttpStatus.BAD_REQUEST, ex);
     }
 
-    private ResponseEntity<ErrorResponseBody> buildResponse(HttpStatus  httpStatus, Exception e) {
-        return ResponseEntity.status(httpStatus).body(new ErrorResponseBody(e.getMessage()));
+    private ResponseEntity<byte[]> buildResponse(HttpStatus  httpStatus, Exception e) {
+        return buildResponse(ResponseEntity.status(httpStatus), e.getMessage());
+    }
+
+    private ResponseEntity<byte[]> buildResponse(ResponseEntity.BodyBuilder response, String message) {
+        return response.contentType(MediaType.APPLICATION_JSON).body(errorResponseBodies.get(message));
     }
 }
\ No newline at end of file
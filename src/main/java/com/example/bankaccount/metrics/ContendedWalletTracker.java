@@ -0,0 +1,59 @@
+package com.example.bankaccount.metrics;
+
+import com.example.bankaccount.config.WalletProperties;
+import org.springframework.stereotype.Component;
+import java.util.*;
+
+@Component
+public class ContendedWalletTracker {
+
+    private final int capacity;
+    private final Map<UUID, Counter> counters;
+
+    public ContendedWalletTracker(WalletProperties properties) {
+        this.capacity = properties.getMetrics().getTrackedContendedWallets();
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    public synchronized void recordConflict(UUID walletId) {
+        Counter counter = counters.get(walletId);
+        if (counter != null) {
+            counter.count++;
+            return;
+        }
+        if (counters.size() < capacity) {
+            counters.put(walletId, new Counter(1, 0));
+            return;
+        }
+        Map.Entry<UUID, Counter> smallest = null;
+        for (Map.Entry<UUID, Counter> entry : counters.entrySet()) {
+            if (smallest == null || entry.getValue().count < smallest.getValue().count) {
+                smallest = entry;
+            }
+        }
+        long floor = smallest.getValue().count;
+        counters.remove(smallest.getKey());
+        counters.put(walletId, new Counter(floor + 1, floor));
+    }
+
+    public synchronized List<ContendedWallet> top(int limit) {
+        return counters.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<UUID, Counter> entry) -> entry.getValue().count).reversed())
+                .limit(limit)
+                .map(entry -> new ContendedWallet(entry.getKey(), entry.getValue().count, entry.getValue().overestimate))
+                .toList();
+    }
+
+    public record ContendedWallet(UUID walletId, long conflicts, long maxOverestimate) {
+    }
+
+    private static final class Counter {
+        private long count;
+        private final long overestimate;
+
+        private Counter(long count, long overestimate) {
+            this.count = count;
+            this.overestimate = overestimate;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.bankaccount.metrics;
+
+import com.example.bankaccount.config.WalletProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import java.util.List;
+
+@Component
+@Endpoint(id = "contendedwallets")
+@RequiredArgsConstructor
+public class ContendedWalletsEndpoint {
+
+    private final ContendedWalletTracker contendedWalletTracker;
+    private final WalletProperties walletProperties;
+
+    @ReadOperation
+    public List<ContendedWalletTracker.ContendedWallet> contendedWallets() {
+        return contendedWalletTracker.top(walletProperties.getMetrics().getTopContendedWallets());
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.bankaccount.metrics;
+
+import java.util.function.Supplier;
+
+public final class DatabaseTime {
+
+    private static final ThreadLocal<DatabaseTime> CURRENT = new ThreadLocal<>();
+
+    private long nanos;
+
+    public static DatabaseTime current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T track(DatabaseTime time, Supplier<T> work) {
+        DatabaseTime previous = CURRENT.get();
+        CURRENT.set(time);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    static void record(long elapsedNanos) {
+        DatabaseTime time = CURRENT.get();
+        if (time != null) {
+            time.add(elapsedNanos);
+        }
+    }
+
+    public void add(long elapsedNanos) {
+        nanos += elapsedNanos;
+    }
+
+    public long nanos() {
+        return nanos;
+    }
+}
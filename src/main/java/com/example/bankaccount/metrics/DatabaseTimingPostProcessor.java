@@ -0,0 +1,63 @@
+package com.example.bankaccount.metrics;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+
+@Component
+public class DatabaseTimingPostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+            return timed(DataSource.class, dataSource);
+        }
+        return bean;
+    }
+
+    static <T> T timed(Class<T> type, T target) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> invoke(target, method, args)));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        boolean databaseCall = isDatabaseCall(target, method);
+        long start = databaseCall ? System.nanoTime() : 0L;
+        Object result;
+        try {
+            result = method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        } finally {
+            if (databaseCall) {
+                DatabaseTime.record(System.nanoTime() - start);
+            }
+        }
+        return wrap(target, method, result);
+    }
+
+    private static boolean isDatabaseCall(Object target, Method method) {
+        String name = method.getName();
+        if (target instanceof Statement) {
+            return name.startsWith("execute");
+        }
+        return target instanceof Connection && (name.equals("commit") || name.equals("rollback"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object wrap(Object target, Method method, Object result) {
+        Class<?> returnType = method.getReturnType();
+        if (target instanceof DataSource && result instanceof Connection connection) {
+            return timed(Connection.class, connection);
+        }
+        if (target instanceof Connection && result != null && Statement.class.isAssignableFrom(returnType)) {
+            return timed((Class<Object>) returnType, result);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.bankaccount.metrics;
+
+import com.example.bankaccount.exception.InsufficientFundsException;
+import com.example.bankaccount.exception.InvalidOperationException;
+import com.example.bankaccount.exception.ServiceOverloadedException;
+import com.example.bankaccount.exception.WalletNotFoundException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+
+public enum OperationOutcome {
+    SUCCESS,
+    INSUFFICIENT_FUNDS,
+    NOT_FOUND,
+    RETRY_EXHAUSTED,
+    LOCK_UNAVAILABLE,
+    REJECTED,
+    INVALID,
+    ERROR;
+
+    public static OperationOutcome of(Throwable error) {
+        if (error == null) {
+            return SUCCESS;
+        }
+        if (error instanceof InsufficientFundsException) {
+            return INSUFFICIENT_FUNDS;
+        }
+        if (error instanceof WalletNotFoundException) {
+            return NOT_FOUND;
+        }
+        if (error instanceof OptimisticLockingFailureException) {
+            return RETRY_EXHAUSTED;
+        }
+        if (error instanceof PessimisticLockingFailureException) {
+            return LOCK_UNAVAILABLE;
+        }
+        if (error instanceof ServiceOverloadedException) {
+            return REJECTED;
+        }
+        if (error instanceof InvalidOperationException || error instanceof IllegalArgumentException) {
+            return INVALID;
+        }
+        return ERROR;
+    }
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
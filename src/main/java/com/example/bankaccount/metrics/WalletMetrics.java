@@ -0,0 +1,80 @@
+package com.example.bankaccount.metrics;
+
+import com.example.bankaccount.config.LockingStrategy;
+import com.example.bankaccount.model.enums.OperationType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class WalletMetrics {
+
+    private final Timer[][][] operationTimers;
+    private final Timer[][][] databaseTimers;
+    private final DistributionSummary retryAttempts;
+    private final Counter optimisticLockConflicts;
+    private final DistributionSummary batchSizes;
+
+    public WalletMetrics(MeterRegistry meterRegistry) {
+        OperationType[] types = OperationType.values();
+        OperationOutcome[] outcomes = OperationOutcome.values();
+        LockingStrategy[] strategies = LockingStrategy.values();
+        this.operationTimers = new Timer[types.length][outcomes.length][strategies.length];
+        this.databaseTimers = new Timer[types.length][outcomes.length][strategies.length];
+        for (OperationType type : types) {
+            for (OperationOutcome outcome : outcomes) {
+                for (LockingStrategy strategy : strategies) {
+                    operationTimers[type.ordinal()][outcome.ordinal()][strategy.ordinal()] = Timer.builder("wallet.operations")
+                            .description("Wallet operations as seen by the API, including queueing and retries")
+                            .tag("type", type.name().toLowerCase())
+                            .tag("outcome", outcome.tag())
+                            .tag("locking", strategy.name().toLowerCase())
+                            .publishPercentileHistogram()
+                            .register(meterRegistry);
+                    databaseTimers[type.ordinal()][outcome.ordinal()][strategy.ordinal()] = Timer.builder("wallet.operations.db")
+                            .description("Statement execution and commit time within wallet.operations")
+                            .tag("type", type.name().toLowerCase())
+                            .tag("outcome", outcome.tag())
+                            .tag("locking", strategy.name().toLowerCase())
+                            .publishPercentileHistogram()
+                            .register(meterRegistry);
+                }
+            }
+        }
+        this.retryAttempts = DistributionSummary.builder("wallet.operations.attempts")
+                .description("Attempts needed per retryable wallet operation")
+                .serviceLevelObjectives(1, 2, 3)
+                .register(meterRegistry);
+        this.optimisticLockConflicts = Counter.builder("wallet.operations.conflicts")
+                .description("Optimistic lock conflicts that triggered a retry or exhausted the retry budget")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("wallet.batch.size")
+                .description("Operations applied per group-commit transaction")
+                .register(meterRegistry);
+    }
+
+    public void recordOperation(OperationType type, LockingStrategy strategy, Throwable error, long elapsedNanos,
+                                long databaseNanos) {
+        if (type == null) {
+            return;
+        }
+        int outcome = OperationOutcome.of(error).ordinal();
+        operationTimers[type.ordinal()][outcome][strategy.ordinal()].record(elapsedNanos, TimeUnit.NANOSECONDS);
+        databaseTimers[type.ordinal()][outcome][strategy.ordinal()].record(databaseNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordAttempts(int attempts) {
+        retryAttempts.record(attempts);
+    }
+
+    public void recordConflict() {
+        optimisticLockConflicts.increment();
+    }
+
+    public void recordBatch(int size) {
+        batchSizes.record(size);
+    }
+}
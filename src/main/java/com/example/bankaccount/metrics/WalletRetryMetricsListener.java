@@ -0,0 +1,42 @@
+package com.example.bankaccount.metrics;
+
+import com.example.bankaccount.model.WalletOperationRequestModel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.retry.interceptor.MethodInvocationRetryCallback;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class WalletRetryMetricsListener implements RetryListener {
+
+    private final WalletMetrics walletMetrics;
+    private final ContendedWalletTracker contendedWalletTracker;
+
+    @Override
+    public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+        if (!(throwable instanceof OptimisticLockingFailureException)) {
+            return;
+        }
+        walletMetrics.recordConflict();
+        if (callback instanceof MethodInvocationRetryCallback<T, E> invocationCallback) {
+            for (Object argument : invocationCallback.getInvocation().getArguments()) {
+                if (argument instanceof WalletOperationRequestModel request && request.walletId() != null) {
+                    contendedWalletTracker.recordConflict(request.walletId());
+                }
+            }
+        }
+    }
+
+    @Override
+    public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+        int attempts = context.getRetryCount();
+        if (throwable == null) {
+            attempts++;
+        }
+        walletMetrics.recordAttempts(Math.max(attempts, 1));
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.bankaccount.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+@JsonSerialize(using = Money.Serializer.class)
+@JsonDeserialize(using = Money.Deserializer.class)
+public final class Money implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0);
+
+    private static final long MINOR_UNITS_PER_UNIT = 100;
+    private static final int MAX_TEXT_LENGTH = 21;
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    public static Money ofMinorUnits(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    public static Money of(long units) {
+        return ofMinorUnits(Math.multiplyExact(units, MINOR_UNITS_PER_UNIT));
+    }
+
+    public static Money of(BigDecimal value) {
+        try {
+            return ofMinorUnits(value.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount must have at most " + SCALE + " decimal places and fit in "
+                    + Long.MAX_VALUE / MINOR_UNITS_PER_UNIT + " units");
+        }
+    }
+
+    public static Money parse(String text) {
+        return parse(text.toCharArray(), 0, text.length());
+    }
+
+    public static Money parse(char[] text, int offset, int length) {
+        long minor = parseMinorUnits(text, offset, length);
+        if (minor == Long.MIN_VALUE) {
+            return of(new BigDecimal(text, offset, length));
+        }
+        return ofMinorUnits(minor);
+    }
+
+    public long minorUnits() {
+        return minorUnits;
+    }
+
+    public Money add(Money other) {
+        return ofMinorUnits(exact(Math.addExact(minorUnits, other.minorUnits)));
+    }
+
+    public Money subtract(Money other) {
+        return ofMinorUnits(exact(Math.subtractExact(minorUnits, other.minorUnits)));
+    }
+
+    public Money negate() {
+        return ofMinorUnits(Math.negateExact(minorUnits));
+    }
+
+    public int signum() {
+        return Long.signum(minorUnits);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof Money money && money.minorUnits == minorUnits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        char[] buffer = new char[MAX_TEXT_LENGTH];
+        int start = format(buffer);
+        return new String(buffer, start, buffer.length - start);
+    }
+
+    private int format(char[] buffer) {
+        long remaining = Math.abs(minorUnits);
+        int position = buffer.length;
+        for (int digit = 0; digit < SCALE; digit++) {
+            buffer[--position] = (char) ('0' + Math.abs(remaining % 10));
+            remaining /= 10;
+        }
+        buffer[--position] = '.';
+        do {
+            buffer[--position] = (char) ('0' + Math.abs(remaining % 10));
+            remaining /= 10;
+        } while (remaining != 0);
+        if (minorUnits < 0) {
+            buffer[--position] = '-';
+        }
+        return position;
+    }
+
+    private static long exact(long minorUnits) {
+        if (minorUnits == Long.MIN_VALUE) {
+            throw new ArithmeticException("long overflow");
+        }
+        return minorUnits;
+    }
+
+    private static long parseMinorUnits(char[] text, int offset, int length) {
+        int end = offset + length;
+        int position = offset;
+        boolean negative = false;
+        if (position < end && (text[position] == '-' || text[position] == '+')) {
+            negative = text[position++] == '-';
+        }
+        long units = 0;
+        int integerDigits = 0;
+        while (position < end && isDigit(text[position])) {
+            if (++integerDigits > 16) {
+                return Long.MIN_VALUE;
+            }
+            units = units * 10 + (text[position++] - '0');
+        }
+        long fraction = 0;
+        int fractionDigits = 0;
+        if (position < end && text[position] == '.') {
+            position++;
+            while (position < end && isDigit(text[position])) {
+                if (++fractionDigits > SCALE) {
+                    return Long.MIN_VALUE;
+                }
+                fraction = fraction * 10 + (text[position++] - '0');
+            }
+        }
+        if (position != end || integerDigits + fractionDigits == 0) {
+            return Long.MIN_VALUE;
+        }
+        for (int digit = fractionDigits; digit < SCALE; digit++) {
+            fraction *= 10;
+        }
+        long minor = units * MINOR_UNITS_PER_UNIT + fraction;
+        return negative ? -minor : minor;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    public static class Serializer extends StdScalarSerializer<Money> {
+
+        public Serializer() {
+            super(Money.class);
+        }
+
+        @Override
+        public void serialize(Money value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            char[] buffer = new char[MAX_TEXT_LENGTH];
+            int start = value.format(buffer);
+            generator.writeString(buffer, start, buffer.length - start);
+        }
+    }
+
+    public static class Deserializer extends StdScalarDeserializer<Money> {
+
+        public Deserializer() {
+            super(Money.class);
+        }
+
+        @Override
+        public Money deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            JsonToken token = parser.currentToken();
+            if (token != JsonToken.VALUE_STRING && token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NUMBER_FLOAT) {
+                return (Money) context.handleUnexpectedToken(Money.class, parser);
+            }
+            try {
+                return parse(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+            } catch (IllegalArgumentException e) {
+                return (Money) context.handleWeirdStringValue(Money.class, parser.getText(), e.getMessage());
+            }
+        }
+    }
+}
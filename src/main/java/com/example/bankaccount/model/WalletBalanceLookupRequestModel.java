@@ -0,0 +1,11 @@
+package com.example.bankaccount.model;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import java.util.UUID;
+
+public record WalletBalanceLookupRequestModel(
+        @NotEmpty(message = "Wallet IDs are required")
+        List<@NotNull(message = "Wallet ID must not be null") UUID> walletIds
+) {}
@@ -0,0 +1,9 @@
+package com.example.bankaccount.model;
+
+import java.util.List;
+import java.util.UUID;
+
+public record WalletBalanceLookupResponseModel(
+        List<WalletBalanceResponseModel> balances,
+        List<UUID> missingWalletIds
+) {}
@@ -0,0 +1,14 @@
+package com.example.bankaccount.model;
+
+import com.example.bankaccount.model.enums.BulkItemStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.UUID;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record WalletBulkItemResultModel(
+        int index,
+        UUID walletId,
+        BulkItemStatus status,
+        Money balance,
+        String message
+) {}
@@ -0,0 +1,17 @@
+package com.example.bankaccount.model;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import java.util.UUID;
+
+public record WalletHoldRequestModel(
+        @NotNull(message = "Wallet ID is required")
+        UUID walletId,
+
+        @NotNull(message = "Amount is required")
+        @Positive(message = "Amount must be positive")
+        Money amount,
+
+        Duration expiresIn
+) {}
@@ -0,0 +1,15 @@
+package com.example.bankaccount.model;
+
+import com.example.bankaccount.model.enums.HoldStatus;
+import java.time.Instant;
+import java.util.UUID;
+
+public record WalletHoldResponseModel(
+        UUID holdId,
+        UUID walletId,
+        Money amount,
+        HoldStatus status,
+        Instant expiresAt,
+        Money balance,
+        Money available
+) {}
@@ -1,22 +1,118 @@
 package com.example.bankaccount.model;
 
 import com.example.bankaccount.model.enums.OperationType;
-import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
-import java.math.BigDecimal;
+import jakarta.validation.constraints.Size;
+import java.io.IOException;
 import java.util.UUID;
 
+@JsonDeserialize(using = WalletOperationRequestModel.Deserializer.class)
 public record WalletOperationRequestModel(
 
-        @NotNull(message = "Wallet ID is required")
+        @NotNull(message = WALLET_ID_REQUIRED)
         UUID walletId,
 
-        @NotNull(message = "Operation type is required")
+        @NotNull(message = OPERATION_TYPE_REQUIRED)
         OperationType operationType,
 
-        @NotNull(message = "Amount is required")
-        @Positive(message = "Amount must be positive")
-        @JsonFormat(shape = JsonFormat.Shape.STRING)
-        BigDecimal amount
-) {}
\ No newline at end of file
+        @NotNull(message = AMOUNT_REQUIRED)
+        @Positive(message = AMOUNT_NOT_POSITIVE)
+        Money amount,
+
+        @Size(max = MAX_IDEMPOTENCY_KEY_LENGTH, message = IDEMPOTENCY_KEY_TOO_LONG)
+        String idempotencyKey,
+
+        UUID targetWalletId
+) {
+    public static final String WALLET_ID_REQUIRED = "Wallet ID is required";
+    public static final String OPERATION_TYPE_REQUIRED = "Operation type is required";
+    public static final String AMOUNT_REQUIRED = "Amount is required";
+    public static final String AMOUNT_NOT_POSITIVE = "Amount must be positive";
+    public static final int MAX_IDEMPOTENCY_KEY_LENGTH = 128;
+    public static final String IDEMPOTENCY_KEY_TOO_LONG = "Idempotency key must be at most 128 characters";
+    public static final String TRANSFER_TARGET_INVALID =
+            "Target wallet ID is required for transfers and must differ from the source wallet";
+
+    public WalletOperationRequestModel(UUID walletId, OperationType operationType, Money amount) {
+        this(walletId, operationType, amount, null, null);
+    }
+
+    public WalletOperationRequestModel(UUID walletId, OperationType operationType, Money amount, String idempotencyKey) {
+        this(walletId, operationType, amount, idempotencyKey, null);
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = TRANSFER_TARGET_INVALID)
+    public boolean isTransferTargetValid() {
+        return operationType != OperationType.TRANSFER
+                || targetWalletId != null && !targetWalletId.equals(walletId);
+    }
+
+    public static class Deserializer extends StdDeserializer<WalletOperationRequestModel> {
+
+        private static final Money.Deserializer MONEY = new Money.Deserializer();
+
+        public Deserializer() {
+            super(WalletOperationRequestModel.class);
+        }
+
+        @Override
+        public WalletOperationRequestModel deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            JsonToken token = parser.currentToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = parser.nextToken();
+            } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+                return (WalletOperationRequestModel) context.handleUnexpectedToken(WalletOperationRequestModel.class, parser);
+            }
+            UUID walletId = null;
+            OperationType operationType = null;
+            Money amount = null;
+            String idempotencyKey = null;
+            UUID targetWalletId = null;
+            for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+                String field = parser.currentName();
+                if (parser.nextToken() == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                switch (field) {
+                    case "walletId" -> walletId = uuid(parser, context);
+                    case "operationType" -> operationType = OperationType.decode(text(parser, context));
+                    case "amount" -> amount = MONEY.deserialize(parser, context);
+                    case "idempotencyKey" -> idempotencyKey = text(parser, context);
+                    case "targetWalletId" -> targetWalletId = uuid(parser, context);
+                    default -> context.handleUnknownProperty(parser, this, WalletOperationRequestModel.class, field);
+                }
+            }
+            return new WalletOperationRequestModel(walletId, operationType, amount, idempotencyKey, targetWalletId);
+        }
+
+        private static String text(JsonParser parser, DeserializationContext context) throws IOException {
+            return parser.currentToken().isScalarValue()
+                    ? parser.getValueAsString()
+                    : (String) context.handleUnexpectedToken(String.class, parser);
+        }
+
+        private static UUID uuid(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.currentToken() != JsonToken.VALUE_STRING) {
+                return (UUID) context.handleUnexpectedToken(UUID.class, parser);
+            }
+            String text = parser.getText();
+            if (text.length() != 36) {
+                return (UUID) context.handleWeirdStringValue(UUID.class, text, "UUID must be 36 characters");
+            }
+            try {
+                return UUID.fromString(text);
+            } catch (IllegalArgumentException e) {
+                return (UUID) context.handleWeirdStringValue(UUID.class, text, e.getMessage());
+            }
+        }
+    }
+}
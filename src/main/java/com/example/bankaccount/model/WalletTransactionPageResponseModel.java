@@ -0,0 +1,8 @@
+package com.example.bankaccount.model;
+
+import java.util.List;
+
+public record WalletTransactionPageResponseModel(
+        List<WalletTransactionResponseModel> transactions,
+        Long nextCursor
+) {}
@@ -0,0 +1,14 @@
+package com.example.bankaccount.model;
+
+import com.example.bankaccount.model.enums.OperationType;
+import java.time.Instant;
+import java.util.UUID;
+
+public record WalletTransactionResponseModel(
+        Long id,
+        UUID walletId,
+        OperationType operationType,
+        Money amount,
+        Money balanceAfter,
+        Instant createdAt
+) {}
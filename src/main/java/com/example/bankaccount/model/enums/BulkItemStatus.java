@@ -0,0 +1,7 @@
+package com.example.bankaccount.model.enums;
+
+public enum BulkItemStatus {
+    APPLIED,
+    FAILED,
+    ROLLED_BACK
+}
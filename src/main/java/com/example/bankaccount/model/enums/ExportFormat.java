@@ -0,0 +1,6 @@
+package com.example.bankaccount.model.enums;
+
+public enum ExportFormat {
+    NDJSON,
+    CSV
+}
@@ -0,0 +1,8 @@
+package com.example.bankaccount.model.enums;
+
+public enum HoldStatus {
+    PENDING,
+    CAPTURED,
+    RELEASED,
+    EXPIRED
+}
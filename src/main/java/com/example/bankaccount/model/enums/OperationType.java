@@ -3,21 +3,27 @@ package com.example.bankaccount.model.enums;
 import com.example.bankaccount.exception.InvalidOperationException;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
-
-import java.util.stream.Stream;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public enum OperationType {
     DEPOSIT,
-    WITHDRAW;
+    WITHDRAW,
+    TRANSFER;
+
+    private static final Map<String, OperationType> BY_NAME = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(OperationType::name, Function.identity()));
 
     @JsonCreator
     public static OperationType decode(final String operation) {
-        return Stream.of(OperationType.values())
-                .filter(target -> target.name().equalsIgnoreCase(operation))
-                .findFirst()
-                .orElseThrow(() ->
-                        new InvalidOperationException("Invalid operation type: " + operation + ". Allowed: DEPOSIT, WITHDRAW")
-                );
+        OperationType target = operation == null ? null : BY_NAME.get(operation.toUpperCase(Locale.ROOT));
+        if (target == null) {
+            throw new InvalidOperationException("Invalid operation type: " + operation + ". Allowed: DEPOSIT, WITHDRAW, TRANSFER");
+        }
+        return target;
     }
 
     @JsonValue
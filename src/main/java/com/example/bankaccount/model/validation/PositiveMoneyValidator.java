@@ -0,0 +1,14 @@
+package com.example.bankaccount.model.validation;
+
+import com.example.bankaccount.model.Money;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.constraints.Positive;
+
+public class PositiveMoneyValidator implements ConstraintValidator<Positive, Money> {
+
+    @Override
+    public boolean isValid(Money value, ConstraintValidatorContext context) {
+        return value == null || value.signum() > 0;
+    }
+}
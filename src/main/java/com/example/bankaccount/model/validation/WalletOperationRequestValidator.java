@@ -0,0 +1,47 @@
+package com.example.bankaccount.model.validation;
+
+import com.example.bankaccount.exception.InvalidOperationException;
+import com.example.bankaccount.model.WalletOperationRequestModel;
+
+public final class WalletOperationRequestValidator {
+
+    private static final String WALLET_ID_VIOLATION = "walletId: " + WalletOperationRequestModel.WALLET_ID_REQUIRED;
+    private static final String OPERATION_TYPE_VIOLATION = "operationType: " + WalletOperationRequestModel.OPERATION_TYPE_REQUIRED;
+    private static final String AMOUNT_REQUIRED_VIOLATION = "amount: " + WalletOperationRequestModel.AMOUNT_REQUIRED;
+    private static final String AMOUNT_NOT_POSITIVE_VIOLATION = "amount: " + WalletOperationRequestModel.AMOUNT_NOT_POSITIVE;
+    private static final String IDEMPOTENCY_KEY_VIOLATION = "idempotencyKey: " + WalletOperationRequestModel.IDEMPOTENCY_KEY_TOO_LONG;
+    private static final String TRANSFER_TARGET_VIOLATION = "transferTargetValid: " + WalletOperationRequestModel.TRANSFER_TARGET_INVALID;
+
+    private WalletOperationRequestValidator() {
+    }
+
+    public static String firstViolation(WalletOperationRequestModel request) {
+        if (request.walletId() == null) {
+            return WALLET_ID_VIOLATION;
+        }
+        if (request.operationType() == null) {
+            return OPERATION_TYPE_VIOLATION;
+        }
+        if (request.amount() == null) {
+            return AMOUNT_REQUIRED_VIOLATION;
+        }
+        if (request.amount().signum() <= 0) {
+            return AMOUNT_NOT_POSITIVE_VIOLATION;
+        }
+        String idempotencyKey = request.idempotencyKey();
+        if (idempotencyKey != null && idempotencyKey.length() > WalletOperationRequestModel.MAX_IDEMPOTENCY_KEY_LENGTH) {
+            return IDEMPOTENCY_KEY_VIOLATION;
+        }
+        if (!request.isTransferTargetValid()) {
+            return TRANSFER_TARGET_VIOLATION;
+        }
+        return null;
+    }
+
+    public static void validate(WalletOperationRequestModel request) {
+        String violation = firstViolation(request);
+        if (violation != null) {
+            throw new InvalidOperationException(violation);
+        }
+    }
+}
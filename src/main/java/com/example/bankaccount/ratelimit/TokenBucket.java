@@ -0,0 +1,30 @@
+package com.example.bankaccount.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+final class TokenBucket {
+
+    private final long nanosPerToken;
+    private final long capacityNanos;
+    private final AtomicLong fullAt;
+
+    TokenBucket(double permitsPerSecond, int burst, long nowNanos) {
+        this.nanosPerToken = Math.max(1, Math.round(1_000_000_000 / permitsPerSecond));
+        this.capacityNanos = nanosPerToken * Math.max(1, burst);
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + nanosPerToken;
+            long debt = next - nowNanos;
+            if (debt > capacityNanos) {
+                return debt - capacityNanos;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
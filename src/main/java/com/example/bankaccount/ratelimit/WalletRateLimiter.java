@@ -0,0 +1,80 @@
+package com.example.bankaccount.ratelimit;
+
+import com.example.bankaccount.config.WalletProperties;
+import com.example.bankaccount.exception.RateLimitExceededException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+public class WalletRateLimiter {
+
+    public static final String DEFAULT_TIER = "default";
+
+    private final boolean enabled;
+    private final boolean perClient;
+    private final Map<String, TierLimit> tiers = new HashMap<>();
+    private final Map<UUID, TierLimit> walletTiers = new HashMap<>();
+    private final Cache<BucketKey, TokenBucket> buckets;
+
+    public WalletRateLimiter(WalletProperties properties, MeterRegistry meterRegistry) {
+        WalletProperties.RateLimit rateLimit = properties.getRateLimit();
+        this.enabled = rateLimit.isEnabled();
+        this.perClient = rateLimit.isPerClient();
+        tiers.put(DEFAULT_TIER, tierLimit(DEFAULT_TIER, rateLimit.getDefaultTier(), meterRegistry));
+        rateLimit.getTiers().forEach((name, tier) -> tiers.put(name, tierLimit(name, tier, meterRegistry)));
+        rateLimit.getWalletTiers().forEach((walletId, name) -> {
+            TierLimit tier = tiers.get(name);
+            if (tier == null) {
+                throw new IllegalStateException("Unknown rate limit tier " + name + " for wallet " + walletId);
+            }
+            walletTiers.put(walletId, tier);
+        });
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(rateLimit.getMaxTrackedKeys())
+                .expireAfterAccess(rateLimit.getIdleTimeout())
+                .build();
+        Gauge.builder("wallet.ratelimit.buckets", buckets, Cache::estimatedSize)
+                .description("Wallet rate limit buckets currently tracked")
+                .register(meterRegistry);
+    }
+
+    public void acquire(UUID walletId, String clientId) {
+        if (!enabled || walletId == null) {
+            return;
+        }
+        TierLimit tier = walletTiers.getOrDefault(walletId, tiers.get(DEFAULT_TIER));
+        BucketKey key = new BucketKey(walletId, perClient ? clientId : null);
+        TokenBucket bucket = buckets.get(key, ignored -> new TokenBucket(tier.permitsPerSecond(), tier.burst(), System.nanoTime()));
+        long waitNanos = bucket.tryAcquire(System.nanoTime());
+        if (waitNanos > 0) {
+            tier.rejections().increment();
+            throw new RateLimitExceededException("Too many operations on wallet " + walletId + ", retry later",
+                    Duration.ofNanos(waitNanos));
+        }
+    }
+
+    private static TierLimit tierLimit(String name, WalletProperties.RateLimit.Tier tier, MeterRegistry meterRegistry) {
+        if (tier.getPermitsPerSecond() <= 0 || tier.getBurst() <= 0) {
+            throw new IllegalStateException("Rate limit tier " + name + " needs positive permits-per-second and burst");
+        }
+        Counter rejections = Counter.builder("wallet.ratelimit.rejections")
+                .description("Wallet operations rejected by the per-wallet rate limit")
+                .tag("tier", name)
+                .register(meterRegistry);
+        return new TierLimit(tier.getPermitsPerSecond(), tier.getBurst(), rejections);
+    }
+
+    private record TierLimit(double permitsPerSecond, int burst, Counter rejections) {
+    }
+
+    private record BucketKey(UUID walletId, String clientId) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.bankaccount.replica;
+
+import com.example.bankaccount.config.WalletProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ConsistencyTokenService {
+
+    private static final String CURRENT_LSN_SQL = "SELECT pg_current_wal_lsn()::text";
+
+    private final boolean enabled;
+    private final JdbcTemplate jdbcTemplate;
+
+    public ConsistencyTokenService(WalletProperties properties, JdbcTemplate jdbcTemplate) {
+        this.enabled = properties.getReplicas().isEnabled();
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public String issueToken() {
+        return enabled ? jdbcTemplate.queryForObject(CURRENT_LSN_SQL, String.class) : null;
+    }
+}
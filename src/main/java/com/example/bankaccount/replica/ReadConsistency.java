@@ -0,0 +1,44 @@
+package com.example.bankaccount.replica;
+
+public final class ReadConsistency {
+
+    public static final String TOKEN_HEADER = "X-Consistency-Token";
+
+    static final long NONE = 0L;
+
+    private static final ThreadLocal<Long> MINIMUM_LSN = new ThreadLocal<>();
+
+    private ReadConsistency() {
+    }
+
+    public static void require(String token) {
+        MINIMUM_LSN.set(parseLsn(token));
+    }
+
+    public static boolean isRequired() {
+        return MINIMUM_LSN.get() != null;
+    }
+
+    public static long minimumLsn() {
+        Long lsn = MINIMUM_LSN.get();
+        return lsn == null ? NONE : lsn;
+    }
+
+    public static void clear() {
+        MINIMUM_LSN.remove();
+    }
+
+    static long parseLsn(String text) {
+        int slash = text == null ? -1 : text.indexOf('/');
+        if (slash <= 0 || slash == text.length() - 1 || text.length() > 17) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            long high = Long.parseLong(text, 0, slash, 16);
+            long low = Long.parseLong(text, slash + 1, text.length(), 16);
+            return high > 0xFFFFFFFFL || low > 0xFFFFFFFFL ? Long.MAX_VALUE : high << 32 | low;
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.bankaccount.replica;
+
+import com.example.bankaccount.config.WalletProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@Component
+public class ReadConsistencyInterceptor implements HandlerInterceptor {
+
+    private final boolean enabled;
+
+    public ReadConsistencyInterceptor(WalletProperties properties) {
+        this.enabled = properties.getReplicas().isEnabled();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String token = request.getHeader(ReadConsistency.TOKEN_HEADER);
+        if (enabled && token != null) {
+            ReadConsistency.require(token);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReadConsistency.clear();
+    }
+}
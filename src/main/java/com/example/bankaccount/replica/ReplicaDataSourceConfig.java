@@ -0,0 +1,62 @@
+package com.example.bankaccount.replica;
+
+import com.example.bankaccount.config.WalletProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(prefix = "wallet.replicas", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("wallet-primary");
+        return primary;
+    }
+
+    @Bean(defaultCandidate = false)
+    public ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                                             DataSourceProperties dataSourceProperties,
+                                                             WalletProperties properties,
+                                                             MeterRegistry meterRegistry) {
+        WalletProperties.Replicas replicas = properties.getReplicas();
+        List<DataSource> targets = new ArrayList<>(replicas.getDatasources().size());
+        for (WalletProperties.Replicas.Replica replica : replicas.getDatasources()) {
+            HikariDataSource target = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(dataSourceProperties.determineDriverClassName())
+                    .url(replica.getUrl())
+                    .username(replica.getUsername() != null ? replica.getUsername() : dataSourceProperties.determineUsername())
+                    .password(replica.getPassword() != null ? replica.getPassword() : dataSourceProperties.determinePassword())
+                    .build();
+            target.setPoolName("wallet-replica-" + targets.size());
+            target.setMaximumPoolSize(replica.getMaximumPoolSize());
+            target.setReadOnly(true);
+            targets.add(target);
+        }
+        return new ReplicaRoutingDataSource(primary, targets, replicas.getPollInterval(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaRoutingDataSource") DataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+}
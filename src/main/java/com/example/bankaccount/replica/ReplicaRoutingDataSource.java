@@ -0,0 +1,138 @@
+package com.example.bankaccount.replica;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final int PRIMARY = -1;
+    static final long UNAVAILABLE = -1L;
+
+    private static final String REPLAY_LSN_SQL =
+            "SELECT COALESCE(pg_last_wal_replay_lsn(), pg_current_wal_lsn())::text";
+
+    private final List<DataSource> replicas;
+    private final AtomicLongArray replayedLsn;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter replicaReads;
+    private final Counter primaryReads;
+    private final ScheduledExecutorService poller;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration pollInterval,
+                                    MeterRegistry meterRegistry) {
+        if (replicas.isEmpty()) {
+            throw new IllegalStateException("Replica routing is enabled but no replica data sources are configured");
+        }
+        this.replicas = List.copyOf(replicas);
+        this.replayedLsn = new AtomicLongArray(replicas.size());
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            replayedLsn.set(i, UNAVAILABLE);
+            targets.put(i, replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        this.replicaReads = readCounter("replica", meterRegistry);
+        this.primaryReads = readCounter("primary", meterRegistry);
+        Gauge.builder("wallet.replica.available", this, ReplicaRoutingDataSource::availableReplicas)
+                .description("Replicas currently reachable for read-only traffic")
+                .register(meterRegistry);
+        pollReplayPositions();
+        this.poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "wallet-replica-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalNanos = pollInterval.toNanos();
+        poller.scheduleWithFixedDelay(this::pollReplayPositions, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        long required = ReadConsistency.minimumLsn();
+        int count = replayedLsn.length();
+        int start = Math.floorMod(next.getAndIncrement(), count);
+        for (int i = 0; i < count; i++) {
+            int replica = (start + i) % count;
+            long replayed = replayedLsn.get(replica);
+            if (replayed != UNAVAILABLE && replayed >= required) {
+                replicaReads.increment();
+                return replica;
+            }
+        }
+        primaryReads.increment();
+        return PRIMARY;
+    }
+
+    @Override
+    public void destroy() {
+        poller.shutdownNow();
+        replicas.forEach(ReplicaRoutingDataSource::close);
+    }
+
+    void pollReplayPositions() {
+        for (int i = 0; i < replicas.size(); i++) {
+            replayedLsn.set(i, replayPosition(i));
+        }
+    }
+
+    private long replayPosition(int replica) {
+        try (Connection connection = replicas.get(replica).getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(REPLAY_LSN_SQL)) {
+            return resultSet.next() ? ReadConsistency.parseLsn(resultSet.getString(1)) : UNAVAILABLE;
+        } catch (SQLException | RuntimeException e) {
+            if (replayedLsn.get(replica) != UNAVAILABLE) {
+                log.warn("Replica {} is unavailable, routing its reads to the primary", replica, e);
+            }
+            return UNAVAILABLE;
+        }
+    }
+
+    private int availableReplicas() {
+        int available = 0;
+        for (int i = 0; i < replayedLsn.length(); i++) {
+            if (replayedLsn.get(i) != UNAVAILABLE) {
+                available++;
+            }
+        }
+        return available;
+    }
+
+    private static Counter readCounter(String target, MeterRegistry meterRegistry) {
+        return Counter.builder("wallet.replica.reads")
+                .description("Read-only connections by the data source that served them")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+
+    private static void close(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("Failed to close data source", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.example.bankaccount.repository;
+
+public record AtomicWithdrawResult(WalletSnapshot wallet, boolean walletFound) {
+}
@@ -0,0 +1,7 @@
+package com.example.bankaccount.repository;
+
+import com.example.bankaccount.model.Money;
+import java.time.Instant;
+
+public record HoldSettlement(WalletFunds wallet, Money amount, Instant expiresAt) {
+}
@@ -0,0 +1,11 @@
+package com.example.bankaccount.repository;
+
+import com.example.bankaccount.model.Money;
+import java.util.UUID;
+
+public record WalletFunds(UUID walletId, Money balance, Money held, long version) {
+
+    public Money available() {
+        return balance.subtract(held);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.bankaccount.repository;
+
+import com.example.bankaccount.model.Money;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface WalletHoldJdbcRepository {
+
+    Optional<WalletFunds> placeHold(UUID holdId, UUID walletId, Money amount, Instant expiresAt);
+
+    Optional<HoldSettlement> captureHold(UUID holdId);
+
+    Optional<HoldSettlement> releaseHold(UUID holdId);
+
+    Optional<WalletHoldSnapshot> findHold(UUID holdId);
+
+    int expireHolds(int limit);
+}
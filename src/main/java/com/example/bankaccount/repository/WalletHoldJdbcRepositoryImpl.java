@@ -0,0 +1,106 @@
+package com.example.bankaccount.repository;
+
+import com.example.bankaccount.model.Money;
+import com.example.bankaccount.model.enums.HoldStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class WalletHoldJdbcRepositoryImpl implements WalletHoldJdbcRepository {
+
+    private static final String PLACE_HOLD = """
+            WITH reserved AS (
+                UPDATE wallets SET held = held + ?, version = version + 1
+                WHERE wallet_id = ? AND balance - held >= ?
+                RETURNING wallet_id, balance, held, version),
+            inserted AS (
+                INSERT INTO wallet_holds (hold_id, wallet_id, amount, status, expires_at)
+                SELECT ?, wallet_id, ?, 'PENDING', CAST(? AS timestamptz) FROM reserved)
+            SELECT wallet_id, balance, held, version FROM reserved""";
+
+    private static final String CAPTURE_HOLD = """
+            WITH captured AS (
+                UPDATE wallet_holds SET status = 'CAPTURED', settled_at = now()
+                WHERE hold_id = ? AND status = 'PENDING' AND expires_at > now()
+                RETURNING wallet_id, amount, expires_at)
+            UPDATE wallets w SET balance = w.balance - c.amount, held = w.held - c.amount, version = w.version + 1
+            FROM captured c
+            WHERE w.wallet_id = c.wallet_id
+            RETURNING w.wallet_id, w.balance, w.held, w.version, c.amount AS hold_amount, c.expires_at""";
+
+    private static final String RELEASE_HOLD = """
+            WITH released AS (
+                UPDATE wallet_holds SET status = 'RELEASED', settled_at = now()
+                WHERE hold_id = ? AND status = 'PENDING'
+                RETURNING wallet_id, amount, expires_at)
+            UPDATE wallets w SET held = w.held - r.amount, version = w.version + 1
+            FROM released r
+            WHERE w.wallet_id = r.wallet_id
+            RETURNING w.wallet_id, w.balance, w.held, w.version, r.amount AS hold_amount, r.expires_at""";
+
+    private static final String FIND_HOLD = """
+            SELECT hold_id, wallet_id, amount, status, expires_at FROM wallet_holds
+            WHERE hold_id = ?""";
+
+    private static final String EXPIRE_HOLDS = """
+            WITH expired AS (
+                UPDATE wallet_holds SET status = 'EXPIRED', settled_at = now()
+                WHERE hold_id IN (
+                    SELECT hold_id FROM wallet_holds
+                    WHERE status = 'PENDING' AND expires_at <= now()
+                    ORDER BY expires_at
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED)
+                RETURNING wallet_id, amount),
+            released AS (
+                UPDATE wallets w SET held = w.held - e.amount, version = w.version + 1
+                FROM (SELECT wallet_id, SUM(amount) AS amount FROM expired GROUP BY wallet_id) e
+                WHERE w.wallet_id = e.wallet_id)
+            SELECT count(*) FROM expired""";
+
+    private static final RowMapper<HoldSettlement> SETTLEMENT_MAPPER = (rs, rowNum) -> new HoldSettlement(
+            WalletJdbcRepositoryImpl.FUNDS_MAPPER.mapRow(rs, rowNum),
+            Money.of(rs.getBigDecimal("hold_amount")),
+            rs.getTimestamp("expires_at").toInstant());
+
+    private static final RowMapper<WalletHoldSnapshot> HOLD_MAPPER = (rs, rowNum) -> new WalletHoldSnapshot(
+            rs.getObject("hold_id", UUID.class),
+            rs.getObject("wallet_id", UUID.class),
+            Money.of(rs.getBigDecimal("amount")),
+            HoldStatus.valueOf(rs.getString("status")),
+            rs.getTimestamp("expires_at").toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<WalletFunds> placeHold(UUID holdId, UUID walletId, Money amount, Instant expiresAt) {
+        return jdbcTemplate.query(PLACE_HOLD, WalletJdbcRepositoryImpl.FUNDS_MAPPER, amount.toBigDecimal(), walletId, amount.toBigDecimal(),
+                holdId, amount.toBigDecimal(), Timestamp.from(expiresAt)).stream().findFirst();
+    }
+
+    @Override
+    public Optional<HoldSettlement> captureHold(UUID holdId) {
+        return jdbcTemplate.query(CAPTURE_HOLD, SETTLEMENT_MAPPER, holdId).stream().findFirst();
+    }
+
+    @Override
+    public Optional<HoldSettlement> releaseHold(UUID holdId) {
+        return jdbcTemplate.query(RELEASE_HOLD, SETTLEMENT_MAPPER, holdId).stream().findFirst();
+    }
+
+    @Override
+    public Optional<WalletHoldSnapshot> findHold(UUID holdId) {
+        return jdbcTemplate.query(FIND_HOLD, HOLD_MAPPER, holdId).stream().findFirst();
+    }
+
+    @Override
+    public int expireHolds(int limit) {
+        Integer expired = jdbcTemplate.queryForObject(EXPIRE_HOLDS, Integer.class, limit);
+        return expired == null ? 0 : expired;
+    }
+}
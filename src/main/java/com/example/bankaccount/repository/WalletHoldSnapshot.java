@@ -0,0 +1,9 @@
+package com.example.bankaccount.repository;
+
+import com.example.bankaccount.model.Money;
+import com.example.bankaccount.model.enums.HoldStatus;
+import java.time.Instant;
+import java.util.UUID;
+
+public record WalletHoldSnapshot(UUID holdId, UUID walletId, Money amount, HoldStatus status, Instant expiresAt) {
+}
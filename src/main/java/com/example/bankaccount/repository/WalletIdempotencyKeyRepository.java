@@ -0,0 +1,33 @@
+package com.example.bankaccount.repository;
+
+import com.example.bankaccount.entity.WalletIdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+@Repository
+public interface WalletIdempotencyKeyRepository extends JpaRepository<WalletIdempotencyKey, String> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO wallet_idempotency_keys (idempotency_key, wallet_id, operation_type, amount, target_wallet_id)
+            VALUES (:idempotencyKey, :walletId, :operationType, :amount, :targetWalletId)
+            ON CONFLICT DO NOTHING""", nativeQuery = true)
+    int insertIfAbsent(String idempotencyKey, UUID walletId, String operationType, BigDecimal amount,
+                       UUID targetWalletId);
+
+    @Modifying
+    @Query(value = "UPDATE wallet_idempotency_keys SET balance = :balance WHERE idempotency_key = :idempotencyKey",
+            nativeQuery = true)
+    int recordResponse(String idempotencyKey, BigDecimal balance);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM wallet_idempotency_keys WHERE created_at < :threshold", nativeQuery = true)
+    int deleteCreatedBefore(Instant threshold);
+}
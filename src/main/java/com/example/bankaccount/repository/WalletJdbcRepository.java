@@ -0,0 +1,32 @@
+package com.example.bankaccount.repository;
+
+import com.example.bankaccount.model.Money;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public interface WalletJdbcRepository {
+
+    List<WalletFunds> lockAllByIdOrdered(Collection<UUID> walletIds);
+
+    List<WalletSnapshot> findBalances(Collection<UUID> walletIds);
+
+    void batchUpdateBalances(Collection<WalletSnapshot> wallets);
+
+    Optional<WalletSnapshot> depositAtomically(UUID walletId, Money amount);
+
+    AtomicWithdrawResult withdrawAtomically(UUID walletId, Money amount);
+
+    void setLockTimeout(Duration timeout);
+
+    void forEachWallet(Consumer<WalletSnapshot> consumer);
+
+    void exportWallets(Consumer<WalletSnapshot> consumer);
+
+    long findEngineCheckpoint(String engine);
+
+    void saveEngineCheckpoint(String engine, long sequence);
+}
@@ -0,0 +1,160 @@
+package com.example.bankaccount.repository;
+
+import com.example.bankaccount.model.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@RequiredArgsConstructor
+public class WalletJdbcRepositoryImpl implements WalletJdbcRepository {
+
+    private static final String LOCK_ALL_BY_ID = """
+            SELECT wallet_id, balance, held, version FROM wallets
+            WHERE wallet_id = ANY(?)
+            ORDER BY wallet_id
+            FOR UPDATE""";
+
+    private static final String UPDATE_BALANCE = """
+            UPDATE wallets SET balance = ?, version = version + 1
+            WHERE wallet_id = ?""";
+
+    private static final String DEPOSIT_ATOMICALLY = """
+            UPDATE wallets SET balance = balance + ?, version = version + 1
+            WHERE wallet_id = ?
+            RETURNING wallet_id, balance, version""";
+
+    private static final String WITHDRAW_ATOMICALLY = """
+            WITH updated AS (
+                UPDATE wallets SET balance = balance - ?, version = version + 1
+                WHERE wallet_id = ? AND balance - held >= ?
+                RETURNING wallet_id, balance, version)
+            SELECT updated.wallet_id, updated.balance, updated.version,
+                   EXISTS (SELECT 1 FROM wallets WHERE wallet_id = ?) AS wallet_found
+            FROM (SELECT 1) AS single_row
+            LEFT JOIN updated ON true""";
+
+    private static final String FIND_BALANCES = """
+            SELECT w.wallet_id, w.balance + COALESCE(s.balance, 0) AS balance, w.version
+            FROM wallets w
+            LEFT JOIN (SELECT wallet_id, SUM(balance) AS balance FROM wallet_balance_shards
+                       WHERE wallet_id = ANY(?) GROUP BY wallet_id) s
+                ON s.wallet_id = w.wallet_id
+            WHERE w.wallet_id = ANY(?)""";
+
+    private static final String SET_LOCK_TIMEOUT = """
+            SELECT set_config('lock_timeout', ?, true)""";
+
+    private static final String FIND_ALL = """
+            SELECT wallet_id, balance, version FROM wallets""";
+
+    private static final String EXPORT_ALL = """
+            SELECT w.wallet_id, w.balance + COALESCE(s.balance, 0) AS balance, w.version
+            FROM wallets w
+            LEFT JOIN (SELECT wallet_id, SUM(balance) AS balance FROM wallet_balance_shards GROUP BY wallet_id) s
+                ON s.wallet_id = w.wallet_id
+            ORDER BY w.wallet_id""";
+
+    private static final String FIND_ENGINE_CHECKPOINT = """
+            SELECT sequence FROM wallet_engine_checkpoints
+            WHERE engine = ?""";
+
+    private static final String SAVE_ENGINE_CHECKPOINT = """
+            INSERT INTO wallet_engine_checkpoints (engine, sequence) VALUES (?, ?)
+            ON CONFLICT (engine) DO UPDATE SET sequence = EXCLUDED.sequence""";
+
+    private static final int STREAM_FETCH_SIZE = 10_000;
+
+    private static final RowMapper<WalletSnapshot> SNAPSHOT_MAPPER = (rs, rowNum) -> new WalletSnapshot(
+            rs.getObject("wallet_id", UUID.class),
+            Money.of(rs.getBigDecimal("balance")),
+            rs.getLong("version"));
+
+    static final RowMapper<WalletFunds> FUNDS_MAPPER = (rs, rowNum) -> new WalletFunds(
+            rs.getObject("wallet_id", UUID.class),
+            Money.of(rs.getBigDecimal("balance")),
+            Money.of(rs.getBigDecimal("held")),
+            rs.getLong("version"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<WalletFunds> lockAllByIdOrdered(Collection<UUID> walletIds) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(LOCK_ALL_BY_ID);
+            statement.setArray(1, connection.createArrayOf("uuid", walletIds.toArray()));
+            return statement;
+        }, FUNDS_MAPPER);
+    }
+
+    @Override
+    public List<WalletSnapshot> findBalances(Collection<UUID> walletIds) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(FIND_BALANCES);
+            Array ids = connection.createArrayOf("uuid", walletIds.toArray());
+            statement.setArray(1, ids);
+            statement.setArray(2, ids);
+            return statement;
+        }, SNAPSHOT_MAPPER);
+    }
+
+    @Override
+    public void batchUpdateBalances(Collection<WalletSnapshot> wallets) {
+        jdbcTemplate.batchUpdate(UPDATE_BALANCE, wallets.stream()
+                .map(wallet -> new Object[]{wallet.balance().toBigDecimal(), wallet.walletId()})
+                .toList());
+    }
+
+    @Override
+    public Optional<WalletSnapshot> depositAtomically(UUID walletId, Money amount) {
+        return jdbcTemplate.query(DEPOSIT_ATOMICALLY, SNAPSHOT_MAPPER, amount.toBigDecimal(), walletId).stream().findFirst();
+    }
+
+    @Override
+    public AtomicWithdrawResult withdrawAtomically(UUID walletId, Money amount) {
+        return jdbcTemplate.queryForObject(WITHDRAW_ATOMICALLY, (rs, rowNum) -> new AtomicWithdrawResult(
+                rs.getObject("wallet_id") == null ? null : SNAPSHOT_MAPPER.mapRow(rs, rowNum),
+                rs.getBoolean("wallet_found")), amount.toBigDecimal(), walletId, amount.toBigDecimal(), walletId);
+    }
+
+    @Override
+    public void setLockTimeout(Duration timeout) {
+        jdbcTemplate.queryForObject(SET_LOCK_TIMEOUT, String.class, timeout.toMillis() + "ms");
+    }
+
+    @Override
+    public void forEachWallet(Consumer<WalletSnapshot> consumer) {
+        stream(FIND_ALL, consumer);
+    }
+
+    @Override
+    public void exportWallets(Consumer<WalletSnapshot> consumer) {
+        stream(EXPORT_ALL, consumer);
+    }
+
+    @Override
+    public long findEngineCheckpoint(String engine) {
+        return jdbcTemplate.queryForList(FIND_ENGINE_CHECKPOINT, Long.class, engine).stream().findFirst().orElse(0L);
+    }
+
+    @Override
+    public void saveEngineCheckpoint(String engine, long sequence) {
+        jdbcTemplate.update(SAVE_ENGINE_CHECKPOINT, engine, sequence);
+    }
+
+    private void stream(String sql, Consumer<WalletSnapshot> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> consumer.accept(SNAPSHOT_MAPPER.mapRow(resultSet, resultSet.getRow())));
+    }
+}
@@ -1,11 +1,38 @@
 package com.example.bankaccount.repository;
 
 import com.example.bankaccount.entity.Wallet;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface WalletRepository extends JpaRepository<Wallet, UUID> {
+public interface WalletRepository extends JpaRepository<Wallet, UUID>, WalletJdbcRepository, WalletShardJdbcRepository,
+        WalletHoldJdbcRepository {
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select w from Wallet w where w.walletId in :walletIds order by w.walletId")
+    List<Wallet> findAllByIdForUpdate(Collection<UUID> walletIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "0"))
+    @Query("select w from Wallet w where w.walletId in :walletIds order by w.walletId")
+    List<Wallet> findAllByIdForUpdateNoWait(Collection<UUID> walletIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select w from Wallet w where w.walletId = :walletId")
+    Optional<Wallet> findByIdForUpdate(UUID walletId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "0"))
+    @Query("select w from Wallet w where w.walletId = :walletId")
+    Optional<Wallet> findByIdForUpdateNoWait(UUID walletId);
 }
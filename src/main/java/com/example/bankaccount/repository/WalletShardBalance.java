@@ -0,0 +1,6 @@
+package com.example.bankaccount.repository;
+
+import com.example.bankaccount.model.Money;
+
+public record WalletShardBalance(int shardNo, Money balance) {
+}
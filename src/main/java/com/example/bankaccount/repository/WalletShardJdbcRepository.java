@@ -0,0 +1,21 @@
+package com.example.bankaccount.repository;
+
+import com.example.bankaccount.model.Money;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface WalletShardJdbcRepository {
+
+    boolean depositToShard(UUID walletId, int shardNo, Money amount);
+
+    boolean withdrawFromAnyShard(UUID walletId, Money amount);
+
+    Optional<Money> sumShardedBalance(UUID walletId);
+
+    Optional<Money> lockBaseBalance(UUID walletId);
+
+    List<WalletShardBalance> lockShardBalances(UUID walletId);
+
+    void replaceShardBalances(UUID walletId, Money baseBalance, List<WalletShardBalance> locked, List<Money> shardBalances);
+}
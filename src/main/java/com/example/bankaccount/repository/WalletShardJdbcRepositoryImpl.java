@@ -0,0 +1,117 @@
+package com.example.bankaccount.repository;
+
+import com.example.bankaccount.model.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class WalletShardJdbcRepositoryImpl implements WalletShardJdbcRepository {
+
+    private static final String DEPOSIT_TO_SHARD = """
+            INSERT INTO wallet_balance_shards (wallet_id, shard_no, balance)
+            SELECT wallet_id, ?, ? FROM wallets WHERE wallet_id = ?
+            ON CONFLICT (wallet_id, shard_no)
+            DO UPDATE SET balance = wallet_balance_shards.balance + EXCLUDED.balance""";
+
+    private static final String WITHDRAW_FROM_ANY_SHARD = """
+            UPDATE wallet_balance_shards SET balance = balance - ?
+            WHERE (wallet_id, shard_no) = (
+                SELECT wallet_id, shard_no FROM wallet_balance_shards
+                WHERE wallet_id = ? AND balance >= ?
+                ORDER BY random()
+                LIMIT 1
+                FOR UPDATE SKIP LOCKED)
+            AND balance >= ?""";
+
+    private static final String SUM_SHARDED_BALANCE = """
+            SELECT w.balance + COALESCE((SELECT SUM(s.balance) FROM wallet_balance_shards s
+                                         WHERE s.wallet_id = w.wallet_id), 0) AS balance
+            FROM wallets w
+            WHERE w.wallet_id = ?""";
+
+    private static final String LOCK_BASE_BALANCE = """
+            SELECT balance FROM wallets
+            WHERE wallet_id = ?
+            FOR NO KEY UPDATE""";
+
+    private static final String LOCK_SHARD_BALANCES = """
+            SELECT shard_no, balance FROM wallet_balance_shards
+            WHERE wallet_id = ?
+            ORDER BY shard_no
+            FOR UPDATE""";
+
+    private static final String UPDATE_BASE_BALANCE = """
+            UPDATE wallets SET balance = ?, version = version + 1
+            WHERE wallet_id = ?""";
+
+    private static final String UPSERT_SHARD_BALANCE = """
+            INSERT INTO wallet_balance_shards (wallet_id, shard_no, balance)
+            VALUES (?, ?, ?)
+            ON CONFLICT (wallet_id, shard_no) DO UPDATE SET balance = wallet_balance_shards.balance + ?""";
+
+    private static final String DELETE_SHARD_BALANCE = """
+            DELETE FROM wallet_balance_shards
+            WHERE wallet_id = ? AND shard_no = ?""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean depositToShard(UUID walletId, int shardNo, Money amount) {
+        return jdbcTemplate.update(DEPOSIT_TO_SHARD, shardNo, amount.toBigDecimal(), walletId) > 0;
+    }
+
+    @Override
+    public boolean withdrawFromAnyShard(UUID walletId, Money amount) {
+        BigDecimal value = amount.toBigDecimal();
+        return jdbcTemplate.update(WITHDRAW_FROM_ANY_SHARD, value, walletId, value, value) > 0;
+    }
+
+    @Override
+    public Optional<Money> sumShardedBalance(UUID walletId) {
+        return jdbcTemplate.query(SUM_SHARDED_BALANCE, (rs, rowNum) -> Money.of(rs.getBigDecimal("balance")), walletId)
+                .stream().findFirst();
+    }
+
+    @Override
+    public Optional<Money> lockBaseBalance(UUID walletId) {
+        return jdbcTemplate.query(LOCK_BASE_BALANCE, (rs, rowNum) -> Money.of(rs.getBigDecimal("balance")), walletId)
+                .stream().findFirst();
+    }
+
+    @Override
+    public List<WalletShardBalance> lockShardBalances(UUID walletId) {
+        return jdbcTemplate.query(LOCK_SHARD_BALANCES, (rs, rowNum) -> new WalletShardBalance(
+                rs.getInt("shard_no"), Money.of(rs.getBigDecimal("balance"))), walletId);
+    }
+
+    @Override
+    public void replaceShardBalances(UUID walletId, Money baseBalance, List<WalletShardBalance> locked,
+                                     List<Money> shardBalances) {
+        jdbcTemplate.update(UPDATE_BASE_BALANCE, baseBalance.toBigDecimal(), walletId);
+        Map<Integer, Money> previous = new HashMap<>();
+        List<Object[]> removed = new ArrayList<>();
+        for (WalletShardBalance shard : locked) {
+            previous.put(shard.shardNo(), shard.balance());
+            if (shard.shardNo() >= shardBalances.size()) {
+                removed.add(new Object[]{walletId, shard.shardNo()});
+            }
+        }
+        List<Object[]> rows = new ArrayList<>(shardBalances.size());
+        for (int shardNo = 0; shardNo < shardBalances.size(); shardNo++) {
+            Money balance = shardBalances.get(shardNo);
+            Money delta = balance.subtract(previous.getOrDefault(shardNo, Money.ZERO));
+            rows.add(new Object[]{walletId, shardNo, balance.toBigDecimal(), delta.toBigDecimal()});
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SHARD_BALANCE, rows);
+        if (!removed.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_SHARD_BALANCE, removed);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.bankaccount.repository;
+
+import com.example.bankaccount.model.Money;
+import java.util.UUID;
+
+public record WalletSnapshot(UUID walletId, Money balance, long version) {
+}
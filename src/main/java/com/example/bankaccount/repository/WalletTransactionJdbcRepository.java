@@ -0,0 +1,9 @@
+package com.example.bankaccount.repository;
+
+import com.example.bankaccount.entity.WalletTransaction;
+import java.util.Collection;
+
+public interface WalletTransactionJdbcRepository {
+
+    void appendAll(Collection<WalletTransaction> transactions);
+}
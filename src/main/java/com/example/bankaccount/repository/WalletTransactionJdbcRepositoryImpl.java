@@ -0,0 +1,27 @@
+package com.example.bankaccount.repository;
+
+import com.example.bankaccount.entity.WalletTransaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.Collection;
+
+@RequiredArgsConstructor
+public class WalletTransactionJdbcRepositoryImpl implements WalletTransactionJdbcRepository {
+
+    private static final String APPEND = """
+            INSERT INTO wallet_transactions (wallet_id, operation_type, amount, balance_after)
+            VALUES (?, ?, ?, ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void appendAll(Collection<WalletTransaction> transactions) {
+        jdbcTemplate.batchUpdate(APPEND, transactions.stream()
+                .map(transaction -> new Object[]{
+                        transaction.getWalletId(),
+                        transaction.getOperationType().name(),
+                        transaction.getAmount().toBigDecimal(),
+                        transaction.getBalanceAfter().toBigDecimal()})
+                .toList());
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.bankaccount.repository;
+
+import com.example.bankaccount.entity.WalletTransaction;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface WalletTransactionRepository extends JpaRepository<WalletTransaction, Long>, WalletTransactionJdbcRepository {
+
+    List<WalletTransaction> findByWalletIdOrderByIdDesc(UUID walletId, Limit limit);
+
+    List<WalletTransaction> findByWalletIdAndIdLessThanOrderByIdDesc(UUID walletId, Long id, Limit limit);
+}
@@ -0,0 +1,44 @@
+package com.example.bankaccount.retry;
+
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryPolicy;
+
+public class BudgetedRetryPolicy implements RetryPolicy {
+
+    private static final String BUDGET_EXHAUSTED = "wallet.retry.budget-exhausted";
+
+    private final RetryPolicy delegate;
+    private final RetryBudget retryBudget;
+
+    public BudgetedRetryPolicy(RetryPolicy delegate, RetryBudget retryBudget) {
+        this.delegate = delegate;
+        this.retryBudget = retryBudget;
+    }
+
+    public static boolean isBudgetExhausted(RetryContext context) {
+        return context != null && context.hasAttribute(BUDGET_EXHAUSTED);
+    }
+
+    @Override
+    public boolean canRetry(RetryContext context) {
+        return !isBudgetExhausted(context) && delegate.canRetry(context);
+    }
+
+    @Override
+    public RetryContext open(RetryContext parent) {
+        return delegate.open(parent);
+    }
+
+    @Override
+    public void close(RetryContext context) {
+        delegate.close(context);
+    }
+
+    @Override
+    public void registerThrowable(RetryContext context, Throwable throwable) {
+        delegate.registerThrowable(context, throwable);
+        if (delegate.canRetry(context) && !retryBudget.tryAcquire()) {
+            context.setAttribute(BUDGET_EXHAUSTED, true);
+        }
+    }
+}
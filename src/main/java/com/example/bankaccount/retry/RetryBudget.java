@@ -0,0 +1,57 @@
+package com.example.bankaccount.retry;
+
+import com.example.bankaccount.config.WalletProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.stereotype.Component;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class RetryBudget implements RetryListener {
+
+    private static final long TOKEN = 1_000;
+
+    private final long depositPerSuccess;
+    private final long capacity;
+    private final AtomicLong balance;
+
+    public RetryBudget(WalletProperties properties, MeterRegistry meterRegistry) {
+        WalletProperties.Retry retry = properties.getRetry();
+        this.depositPerSuccess = Math.round(retry.getBudgetRatio() * TOKEN);
+        this.capacity = retry.getBudgetCapacity() * TOKEN;
+        this.balance = new AtomicLong(capacity);
+        Gauge.builder("wallet.retry.budget", this, RetryBudget::available)
+                .description("Retries that can currently be spent before conflicting operations are rejected")
+                .register(meterRegistry);
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            long current = balance.get();
+            if (current < TOKEN) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - TOKEN)) {
+                return true;
+            }
+        }
+    }
+
+    public void recordSuccess() {
+        balance.accumulateAndGet(depositPerSuccess, (current, deposit) -> Math.min(capacity, current + deposit));
+    }
+
+    public long available() {
+        return balance.get() / TOKEN;
+    }
+
+    @Override
+    public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+        if (throwable == null) {
+            recordSuccess();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.bankaccount.retry;
+
+import com.example.bankaccount.config.WalletProperties;
+import com.example.bankaccount.exception.ServiceOverloadedException;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.RetryListener;
+import org.springframework.retry.backoff.ExponentialRandomBackOffPolicy;
+import org.springframework.retry.interceptor.RetryInterceptorBuilder;
+import org.springframework.retry.interceptor.RetryOperationsInterceptor;
+import org.springframework.retry.policy.SimpleRetryPolicy;
+import org.springframework.retry.support.RetrySynchronizationManager;
+import org.springframework.retry.support.RetryTemplate;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+public class WalletRetryConfig {
+
+    @Bean
+    public RetryOperationsInterceptor walletRetryInterceptor(WalletProperties properties, RetryBudget retryBudget,
+                                                             List<RetryListener> listeners) {
+        WalletProperties.Retry retry = properties.getRetry();
+        SimpleRetryPolicy attempts = new SimpleRetryPolicy(retry.getMaxAttempts(),
+                Map.of(OptimisticLockingFailureException.class, true), true);
+
+        ExponentialRandomBackOffPolicy backOff = new ExponentialRandomBackOffPolicy();
+        backOff.setInitialInterval(retry.getInitialBackoff().toMillis());
+        backOff.setMultiplier(retry.getMultiplier());
+        backOff.setMaxInterval(retry.getMaxBackoff().toMillis());
+
+        RetryTemplate template = new RetryTemplate();
+        template.setRetryPolicy(new BudgetedRetryPolicy(attempts, retryBudget));
+        template.setBackOffPolicy(backOff);
+        template.setListeners(listeners.toArray(RetryListener[]::new));
+
+        return RetryInterceptorBuilder.stateless()
+                .retryOperations(template)
+                .recoverer((arguments, cause) -> {
+                    if (BudgetedRetryPolicy.isBudgetExhausted(RetrySynchronizationManager.getContext())) {
+                        throw new ServiceOverloadedException("Wallet is under heavy contention, retry later");
+                    }
+                    if (cause instanceof RuntimeException e) {
+                        throw e;
+                    }
+                    throw (Error) cause;
+                })
+                .build();
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.bankaccount.service;
+
+import com.example.bankaccount.config.WalletProperties;
+import com.example.bankaccount.exception.ServiceOverloadedException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Component
+public class HotWalletExecutor implements DisposableBean {
+
+    private final boolean enabled;
+    private final Set<UUID> hotWalletIds;
+    private final long timeoutNanos;
+    private final ExecutorService[] lanes;
+
+    public HotWalletExecutor(WalletProperties properties) {
+        WalletProperties.Hot hot = properties.getHot();
+        this.enabled = hot.isEnabled() && !hot.getWalletIds().isEmpty();
+        this.hotWalletIds = Set.copyOf(hot.getWalletIds());
+        this.timeoutNanos = hot.getTimeout().toNanos();
+        this.lanes = new ExecutorService[enabled ? hot.getLanes() : 0];
+        AtomicInteger laneNumber = new AtomicInteger();
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(hot.getQueueCapacity()),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "hot-wallet-lane-" + laneNumber.getAndIncrement());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+        }
+    }
+
+    public boolean isHot(UUID walletId) {
+        return enabled && walletId != null && hotWalletIds.contains(walletId);
+    }
+
+    public <T> T execute(UUID walletId, Supplier<T> operation) {
+        AtomicBoolean claimed = new AtomicBoolean();
+        Future<T> future;
+        try {
+            future = laneFor(walletId).submit(() -> claimed.compareAndSet(false, true) ? operation.get() : null);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceOverloadedException("Wallet is busy, retry later");
+        }
+        boolean interrupted = false;
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (claimed.compareAndSet(false, true)) {
+                future.cancel(false);
+                throw new ServiceOverloadedException("Wallet is busy, retry later");
+            }
+        } catch (InterruptedException e) {
+            if (claimed.compareAndSet(false, true)) {
+                Thread.currentThread().interrupt();
+                future.cancel(false);
+                throw new ServiceOverloadedException("Wallet operation interrupted");
+            }
+            interrupted = true;
+        } catch (ExecutionException e) {
+            throw failure(e);
+        }
+        return awaitStarted(future, interrupted);
+    }
+
+    private static <T> T awaitStarted(Future<T> future, boolean interrupted) {
+        try {
+            while (true) {
+                try {
+                    return future.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    throw failure(e);
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static RuntimeException failure(ExecutionException e) {
+        return e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+    }
+
+    private ExecutorService laneFor(UUID walletId) {
+        return lanes[Math.floorMod(walletId.hashCode(), lanes.length)];
+    }
+
+    @Override
+    public void destroy() {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+    }
+}
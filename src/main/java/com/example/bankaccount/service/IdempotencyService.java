@@ -0,0 +1,96 @@
+package com.example.bankaccount.service;
+
+import com.example.bankaccount.config.WalletProperties;
+import com.example.bankaccount.entity.WalletIdempotencyKey;
+import com.example.bankaccount.exception.InvalidOperationException;
+import com.example.bankaccount.model.WalletBalanceResponseModel;
+import com.example.bankaccount.model.WalletOperationRequestModel;
+import com.example.bankaccount.repository.WalletIdempotencyKeyRepository;
+import com.example.bankaccount.support.TransactionCallbacks;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+@Service
+public class IdempotencyService {
+
+    private final WalletIdempotencyKeyRepository idempotencyKeyRepository;
+    private final Cache<String, WalletIdempotencyKey> recentResponses;
+    private final Duration retention;
+
+    public IdempotencyService(WalletIdempotencyKeyRepository idempotencyKeyRepository, WalletProperties properties) {
+        WalletProperties.Idempotency settings = properties.getIdempotency();
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.retention = settings.getRetention();
+        this.recentResponses = Caffeine.newBuilder()
+                .maximumSize(settings.getMemoryMaxSize())
+                .expireAfterWrite(settings.getMemoryTtl())
+                .build();
+    }
+
+    public Optional<WalletBalanceResponseModel> findRecent(WalletOperationRequestModel request) {
+        if (request.idempotencyKey() == null) {
+            return Optional.empty();
+        }
+        WalletIdempotencyKey recent = recentResponses.getIfPresent(request.idempotencyKey());
+        if (recent == null) {
+            return Optional.empty();
+        }
+        checkSameRequest(request, recent);
+        return Optional.of(new WalletBalanceResponseModel(recent.getWalletId(), recent.getBalance()));
+    }
+
+    public Optional<WalletBalanceResponseModel> reserve(WalletOperationRequestModel request) {
+        String idempotencyKey = request.idempotencyKey();
+        if (idempotencyKey == null || request.walletId() == null) {
+            return Optional.empty();
+        }
+        if (idempotencyKeyRepository.insertIfAbsent(idempotencyKey, request.walletId(),
+                request.operationType().name(), request.amount().toBigDecimal(), request.targetWalletId()) > 0) {
+            return Optional.empty();
+        }
+
+        WalletIdempotencyKey original = idempotencyKeyRepository.findById(idempotencyKey)
+                .filter(key -> key.getBalance() != null)
+                .orElseThrow(() -> new InvalidOperationException("Idempotency key is being processed, retry later"));
+        checkSameRequest(request, original);
+        recentResponses.put(idempotencyKey, original);
+        return Optional.of(new WalletBalanceResponseModel(original.getWalletId(), original.getBalance()));
+    }
+
+    public WalletBalanceResponseModel complete(WalletOperationRequestModel request, WalletBalanceResponseModel response) {
+        String idempotencyKey = request.idempotencyKey();
+        if (idempotencyKey == null) {
+            return response;
+        }
+        idempotencyKeyRepository.recordResponse(idempotencyKey, response.balance().toBigDecimal());
+        WalletIdempotencyKey recorded = WalletIdempotencyKey.builder()
+                .idempotencyKey(idempotencyKey)
+                .walletId(request.walletId())
+                .operationType(request.operationType())
+                .amount(request.amount())
+                .targetWalletId(request.targetWalletId())
+                .balance(response.balance())
+                .build();
+        TransactionCallbacks.afterCommit(() -> recentResponses.put(idempotencyKey, recorded));
+        return response;
+    }
+
+    @Scheduled(fixedDelayString = "${wallet.idempotency.cleanup-interval:PT10M}")
+    public void removeExpiredKeys() {
+        idempotencyKeyRepository.deleteCreatedBefore(Instant.now().minus(retention));
+    }
+
+    public static void checkSameRequest(WalletOperationRequestModel request, WalletIdempotencyKey original) {
+        if (!original.getWalletId().equals(request.walletId())
+                || original.getOperationType() != null && original.getOperationType() != request.operationType()
+                || original.getAmount() != null && !original.getAmount().equals(request.amount())
+                || original.getTargetWalletId() != null && !original.getTargetWalletId().equals(request.targetWalletId())) {
+            throw new InvalidOperationException("Idempotency key was already used for a different request");
+        }
+    }
+}
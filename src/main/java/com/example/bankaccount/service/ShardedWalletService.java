@@ -0,0 +1,90 @@
+package com.example.bankaccount.service;
+
+import com.example.bankaccount.config.WalletProperties;
+import com.example.bankaccount.exception.InsufficientFundsException;
+import com.example.bankaccount.exception.WalletNotFoundException;
+import com.example.bankaccount.model.Money;
+import com.example.bankaccount.model.WalletBalanceResponseModel;
+import com.example.bankaccount.model.WalletOperationRequestModel;
+import com.example.bankaccount.model.enums.OperationType;
+import com.example.bankaccount.repository.WalletRepository;
+import com.example.bankaccount.repository.WalletShardBalance;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Service
+@RequiredArgsConstructor
+public class ShardedWalletService {
+
+    private final WalletRepository walletRepository;
+    private final WalletProperties walletProperties;
+    private final WalletLedgerService walletLedgerService;
+
+    public boolean isSharded(UUID walletId) {
+        WalletProperties.Sharding sharding = walletProperties.getSharding();
+        return sharding.isEnabled() && walletId != null && sharding.getWalletIds().contains(walletId);
+    }
+
+    @Transactional(readOnly = true)
+    public WalletBalanceResponseModel getWalletBalance(UUID walletId) {
+        return new WalletBalanceResponseModel(walletId, currentBalance(walletId));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public WalletBalanceResponseModel deposit(WalletOperationRequestModel request) {
+        int shardNo = ThreadLocalRandom.current().nextInt(walletProperties.getSharding().getShards());
+        if (!walletRepository.depositToShard(request.walletId(), shardNo, request.amount())) {
+            throw new WalletNotFoundException("Wallet not found");
+        }
+        return record(request, OperationType.DEPOSIT);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public WalletBalanceResponseModel withdraw(WalletOperationRequestModel request) {
+        if (!walletRepository.withdrawFromAnyShard(request.walletId(), request.amount())) {
+            rebalanceAndWithdraw(request.walletId(), request.amount());
+        }
+        return record(request, OperationType.WITHDRAW);
+    }
+
+    private void rebalanceAndWithdraw(UUID walletId, Money amount) {
+        Money total = walletRepository.lockBaseBalance(walletId)
+                .orElseThrow(() -> new WalletNotFoundException("Wallet not found"));
+        List<WalletShardBalance> locked = walletRepository.lockShardBalances(walletId);
+        for (WalletShardBalance shard : locked) {
+            total = total.add(shard.balance());
+        }
+        if (total.compareTo(amount) < 0) {
+            throw new InsufficientFundsException("Insufficient funds");
+        }
+        walletRepository.replaceShardBalances(walletId, Money.ZERO, locked, spread(total.subtract(amount)));
+    }
+
+    private List<Money> spread(Money remaining) {
+        int shards = walletProperties.getSharding().getShards();
+        Money share = Money.ofMinorUnits(remaining.minorUnits() / shards);
+        List<Money> balances = new ArrayList<>(shards);
+        for (int i = 0; i < shards - 1; i++) {
+            balances.add(share);
+        }
+        balances.add(Money.ofMinorUnits(remaining.minorUnits() - share.minorUnits() * (shards - 1)));
+        return balances;
+    }
+
+    private WalletBalanceResponseModel record(WalletOperationRequestModel request, OperationType operationType) {
+        Money balance = currentBalance(request.walletId());
+        walletLedgerService.append(request.walletId(), operationType, request.amount(), balance);
+        return new WalletBalanceResponseModel(request.walletId(), balance);
+    }
+
+    private Money currentBalance(UUID walletId) {
+        return walletRepository.sumShardedBalance(walletId)
+                .orElseThrow(() -> new WalletNotFoundException("Wallet not found"));
+    }
+}
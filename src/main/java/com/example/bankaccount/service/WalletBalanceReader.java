@@ -0,0 +1,33 @@
+package com.example.bankaccount.service;
+
+import com.example.bankaccount.entity.Wallet;
+import com.example.bankaccount.repository.WalletRepository;
+import com.example.bankaccount.repository.WalletSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class WalletBalanceReader {
+
+    private final WalletRepository walletRepository;
+
+    @Transactional(readOnly = true)
+    public Optional<Wallet> findById(UUID walletId) {
+        return walletRepository.findById(walletId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<WalletSnapshot> findBalances(List<UUID> walletIds, int chunkSize) {
+        List<WalletSnapshot> wallets = new ArrayList<>(walletIds.size());
+        for (int from = 0; from < walletIds.size(); from += chunkSize) {
+            wallets.addAll(walletRepository.findBalances(walletIds.subList(from, Math.min(from + chunkSize, walletIds.size()))));
+        }
+        return wallets;
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.bankaccount.service;
+
+import com.example.bankaccount.cache.WalletBalanceCache;
+import com.example.bankaccount.entity.WalletTransaction;
+import com.example.bankaccount.exception.InsufficientFundsException;
+import com.example.bankaccount.exception.InvalidOperationException;
+import com.example.bankaccount.exception.WalletNotFoundException;
+import com.example.bankaccount.model.Money;
+import com.example.bankaccount.model.WalletBalanceResponseModel;
+import com.example.bankaccount.model.WalletOperationRequestModel;
+import com.example.bankaccount.model.enums.OperationType;
+import com.example.bankaccount.repository.WalletFunds;
+import com.example.bankaccount.repository.WalletRepository;
+import com.example.bankaccount.repository.WalletSnapshot;
+import com.example.bankaccount.support.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.*;
+
+@Service
+@RequiredArgsConstructor
+public class WalletBatchProcessor {
+
+    private final WalletRepository walletRepository;
+    private final WalletBalanceCache walletBalanceCache;
+    private final WalletLedgerService walletLedgerService;
+    private final ShardedWalletService shardedWalletService;
+
+    @Transactional
+    public List<WalletOperationOutcome> apply(List<WalletOperationRequestModel> operations) {
+        Set<UUID> walletIds = new HashSet<>();
+        for (WalletOperationRequestModel operation : operations) {
+            if (touchesShardedWallet(operation)) {
+                continue;
+            }
+            if (operation.walletId() != null) {
+                walletIds.add(operation.walletId());
+            }
+            if (operation.operationType() == OperationType.TRANSFER && operation.targetWalletId() != null) {
+                walletIds.add(operation.targetWalletId());
+            }
+        }
+
+        Map<UUID, WalletFunds> locked = new HashMap<>();
+        for (WalletFunds wallet : walletRepository.lockAllByIdOrdered(walletIds)) {
+            locked.put(wallet.walletId(), wallet);
+        }
+
+        Map<UUID, WalletSnapshot> changed = new LinkedHashMap<>();
+        List<WalletTransaction> ledgerEntries = new ArrayList<>(operations.size());
+        List<WalletOperationOutcome> outcomes = new ArrayList<>(operations.size());
+        for (WalletOperationRequestModel operation : operations) {
+            if (touchesShardedWallet(operation)) {
+                outcomes.add(WalletOperationOutcome.failure(new InvalidOperationException("Sharded wallets cannot be batched")));
+                continue;
+            }
+            WalletFunds source = operation.walletId() == null ? null : locked.get(operation.walletId());
+            if (source == null) {
+                outcomes.add(WalletOperationOutcome.failure(new WalletNotFoundException("Wallet not found")));
+                continue;
+            }
+            WalletFunds target = null;
+            if (operation.operationType() == OperationType.TRANSFER) {
+                target = operation.targetWalletId() == null ? null : locked.get(operation.targetWalletId());
+                if (target == null) {
+                    outcomes.add(WalletOperationOutcome.failure(new WalletNotFoundException("Target wallet not found")));
+                    continue;
+                }
+                if (target.walletId().equals(source.walletId())) {
+                    outcomes.add(WalletOperationOutcome.failure(new InvalidOperationException("Transfer requires two different wallets")));
+                    continue;
+                }
+            }
+
+            Money balance = currentBalance(changed, source);
+            if (operation.operationType() == OperationType.DEPOSIT) {
+                balance = balance.add(operation.amount());
+            } else if (balance.subtract(source.held()).compareTo(operation.amount()) < 0) {
+                outcomes.add(WalletOperationOutcome.failure(new InsufficientFundsException("Insufficient funds")));
+                continue;
+            } else {
+                balance = balance.subtract(operation.amount());
+            }
+
+            if (target == null) {
+                changed.put(source.walletId(), new WalletSnapshot(source.walletId(), balance, source.version() + 1));
+                ledgerEntries.add(WalletLedgerService.entry(source.walletId(), operation.operationType(), operation.amount(), balance));
+            } else {
+                Money targetBalance = currentBalance(changed, target).add(operation.amount());
+                changed.put(source.walletId(), new WalletSnapshot(source.walletId(), balance, source.version() + 1));
+                changed.put(target.walletId(), new WalletSnapshot(target.walletId(), targetBalance, target.version() + 1));
+                ledgerEntries.add(WalletLedgerService.entry(source.walletId(), OperationType.TRANSFER, operation.amount().negate(), balance));
+                ledgerEntries.add(WalletLedgerService.entry(target.walletId(), OperationType.TRANSFER, operation.amount(), targetBalance));
+            }
+            outcomes.add(WalletOperationOutcome.success(new WalletBalanceResponseModel(source.walletId(), balance)));
+        }
+
+        if (!changed.isEmpty()) {
+            walletRepository.batchUpdateBalances(changed.values());
+            walletLedgerService.appendAll(ledgerEntries);
+            changed.values().forEach(wallet ->
+                    walletBalanceCache.putAfterCommit(wallet.walletId(), wallet.balance(), wallet.version()));
+        }
+        return outcomes;
+    }
+
+    @Transactional
+    public List<WalletOperationOutcome> applyAllOrNothing(List<WalletOperationRequestModel> operations) {
+        List<WalletOperationOutcome> outcomes = apply(operations);
+        if (!outcomes.stream().allMatch(WalletOperationOutcome::isSuccess)) {
+            TransactionCallbacks.markRollbackOnly();
+        }
+        return outcomes;
+    }
+
+    private boolean touchesShardedWallet(WalletOperationRequestModel operation) {
+        return shardedWalletService.isSharded(operation.walletId())
+                || operation.operationType() == OperationType.TRANSFER && shardedWalletService.isSharded(operation.targetWalletId());
+    }
+
+    private static Money currentBalance(Map<UUID, WalletSnapshot> changed, WalletFunds wallet) {
+        WalletSnapshot pending = changed.get(wallet.walletId());
+        return pending == null ? wallet.balance() : pending.balance();
+    }
+}
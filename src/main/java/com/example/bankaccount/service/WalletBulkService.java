@@ -0,0 +1,190 @@
+package com.example.bankaccount.service;
+
+import com.example.bankaccount.config.WalletProperties;
+import com.example.bankaccount.config.WritePath;
+import com.example.bankaccount.exception.InvalidOperationException;
+import com.example.bankaccount.model.WalletBulkItemResultModel;
+import com.example.bankaccount.model.WalletOperationRequestModel;
+import com.example.bankaccount.model.enums.BulkItemStatus;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Service;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class WalletBulkService {
+
+    private final WalletBatchProcessor walletBatchProcessor;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter resultWriter;
+    private final Validator validator;
+    private final WalletProperties walletProperties;
+
+    public WalletBulkService(WalletBatchProcessor walletBatchProcessor, ObjectMapper objectMapper,
+                             Validator validator, WalletProperties walletProperties) {
+        this.walletBatchProcessor = walletBatchProcessor;
+        this.objectMapper = objectMapper;
+        this.resultWriter = objectMapper.writerFor(WalletBulkItemResultModel.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.validator = validator;
+        this.walletProperties = walletProperties;
+    }
+
+    public void process(InputStream input, boolean atomic, OutputStream output) throws IOException {
+        if (walletProperties.getWritePath() == WritePath.MEMORY) {
+            throw new InvalidOperationException("Bulk operations are not supported by the in-memory write path");
+        }
+        try (MappingIterator<WalletOperationRequestModel> items = objectMapper
+                .readerFor(WalletOperationRequestModel.class)
+                .readValues(input)) {
+            if (atomic) {
+                processAllOrNothing(items, output);
+            } else {
+                processBestEffort(items, output);
+            }
+        }
+    }
+
+    private void processAllOrNothing(MappingIterator<WalletOperationRequestModel> items, OutputStream output) throws IOException {
+        int maxItems = walletProperties.getBulk().getMaxAtomicItems();
+        List<WalletOperationRequestModel> operations = new ArrayList<>();
+        try {
+            while (items.hasNextValue()) {
+                if (operations.size() == maxItems) {
+                    throw new IllegalArgumentException("All-or-nothing bulk requests are limited to " + maxItems + " items");
+                }
+                operations.add(items.nextValue());
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed bulk item at index " + operations.size() + ": " + e.getOriginalMessage());
+        } catch (InvalidOperationException e) {
+            throw new IllegalArgumentException("Malformed bulk item at index " + operations.size() + ": " + e.getMessage());
+        }
+        for (int i = 0; i < operations.size(); i++) {
+            String violation = validate(operations.get(i));
+            if (violation != null) {
+                throw new IllegalArgumentException("Invalid bulk item at index " + i + ": " + violation);
+            }
+        }
+
+        List<WalletOperationOutcome> outcomes = walletBatchProcessor.applyAllOrNothing(operations);
+        boolean committed = outcomes.stream().allMatch(WalletOperationOutcome::isSuccess);
+        JsonGenerator generator = objectMapper.createGenerator(output);
+        for (int i = 0; i < outcomes.size(); i++) {
+            WalletOperationOutcome outcome = outcomes.get(i);
+            if (!outcome.isSuccess()) {
+                write(generator, failed(i, operations.get(i), outcome.error().getMessage()));
+            } else if (committed) {
+                write(generator, applied(i, outcome));
+            } else {
+                write(generator, new WalletBulkItemResultModel(i, operations.get(i).walletId(),
+                        BulkItemStatus.ROLLED_BACK, null, null));
+            }
+        }
+        generator.flush();
+    }
+
+    private void processBestEffort(MappingIterator<WalletOperationRequestModel> items, OutputStream output) throws IOException {
+        int chunkSize = walletProperties.getBulk().getChunkSize();
+        JsonGenerator generator = objectMapper.createGenerator(output);
+        List<WalletOperationRequestModel> chunk = new ArrayList<>(chunkSize);
+        int firstIndex = 0;
+        while (true) {
+            String malformed = null;
+            try {
+                while (chunk.size() < chunkSize && items.hasNextValue()) {
+                    chunk.add(items.nextValue());
+                }
+            } catch (JsonProcessingException e) {
+                malformed = e.getOriginalMessage();
+            } catch (InvalidOperationException e) {
+                malformed = e.getMessage();
+            }
+
+            applyChunk(chunk, firstIndex, generator);
+            if (malformed != null) {
+                write(generator, new WalletBulkItemResultModel(firstIndex + chunk.size(), null,
+                        BulkItemStatus.FAILED, null, "Malformed bulk item: " + malformed));
+            }
+            generator.flush();
+            if (malformed != null || chunk.size() < chunkSize) {
+                return;
+            }
+            firstIndex += chunk.size();
+            chunk.clear();
+        }
+    }
+
+    private void applyChunk(List<WalletOperationRequestModel> chunk, int firstIndex, JsonGenerator generator) throws IOException {
+        String[] violations = new String[chunk.size()];
+        List<WalletOperationRequestModel> valid = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            violations[i] = validate(chunk.get(i));
+            if (violations[i] == null) {
+                valid.add(chunk.get(i));
+            }
+        }
+
+        List<WalletOperationOutcome> outcomes;
+        String chunkError = null;
+        try {
+            outcomes = valid.isEmpty() ? List.of() : walletBatchProcessor.apply(valid);
+        } catch (RuntimeException e) {
+            outcomes = List.of();
+            chunkError = "Operation could not be applied, retry later";
+        }
+
+        int validIndex = 0;
+        for (int i = 0; i < chunk.size(); i++) {
+            WalletOperationRequestModel operation = chunk.get(i);
+            if (violations[i] != null) {
+                write(generator, failed(firstIndex + i, operation, violations[i]));
+            } else if (chunkError != null) {
+                write(generator, failed(firstIndex + i, operation, chunkError));
+            } else {
+                WalletOperationOutcome outcome = outcomes.get(validIndex++);
+                write(generator, outcome.isSuccess()
+                        ? applied(firstIndex + i, outcome)
+                        : failed(firstIndex + i, operation, outcome.error().getMessage()));
+            }
+        }
+    }
+
+    private String validate(WalletOperationRequestModel operation) {
+        if (operation == null) {
+            return "Item is empty";
+        }
+        for (ConstraintViolation<WalletOperationRequestModel> violation : validator.validate(operation)) {
+            return violation.getPropertyPath() + ": " + violation.getMessage();
+        }
+        if (operation.idempotencyKey() != null) {
+            return "idempotencyKey: Idempotency keys are not supported in bulk requests";
+        }
+        return null;
+    }
+
+    private WalletBulkItemResultModel applied(int index, WalletOperationOutcome outcome) {
+        return new WalletBulkItemResultModel(index, outcome.response().walletId(), BulkItemStatus.APPLIED,
+                outcome.response().balance(), null);
+    }
+
+    private WalletBulkItemResultModel failed(int index, WalletOperationRequestModel operation, String message) {
+        return new WalletBulkItemResultModel(index, operation == null ? null : operation.walletId(),
+                BulkItemStatus.FAILED, null, message);
+    }
+
+    private void write(JsonGenerator generator, WalletBulkItemResultModel result) throws IOException {
+        resultWriter.writeValue(generator, result);
+        generator.writeRaw('\n');
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.bankaccount.service;
+
+import com.example.bankaccount.model.enums.ExportFormat;
+import com.example.bankaccount.repository.WalletRepository;
+import com.example.bankaccount.repository.WalletSnapshot;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+@Service
+@RequiredArgsConstructor
+public class WalletExportService {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final WalletRepository walletRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void export(ExportFormat format, OutputStream output) throws IOException {
+        try {
+            if (format == ExportFormat.CSV) {
+                exportCsv(output);
+            } else {
+                exportNdjson(output);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void exportNdjson(OutputStream output) throws IOException {
+        JsonGenerator generator = objectMapper.createGenerator(output);
+        walletRepository.exportWallets(wallet -> {
+            try {
+                writeJson(generator, wallet);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        generator.flush();
+    }
+
+    private void exportCsv(OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        writer.write("wallet_id,balance,version\n");
+        walletRepository.exportWallets(wallet -> {
+            try {
+                writeCsv(writer, wallet);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+
+    private void writeJson(JsonGenerator generator, WalletSnapshot wallet) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("walletId", wallet.walletId().toString());
+        generator.writeStringField("balance", wallet.balance().toString());
+        generator.writeNumberField("version", wallet.version());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private void writeCsv(Writer writer, WalletSnapshot wallet) throws IOException {
+        writer.write(wallet.walletId().toString());
+        writer.write(',');
+        writer.write(wallet.balance().toString());
+        writer.write(',');
+        writer.write(Long.toString(wallet.version()));
+        writer.write('\n');
+    }
+}
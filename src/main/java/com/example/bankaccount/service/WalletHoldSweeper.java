@@ -0,0 +1,33 @@
+package com.example.bankaccount.service;
+
+import com.example.bankaccount.config.WalletProperties;
+import com.example.bankaccount.repository.WalletRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+public class WalletHoldSweeper {
+
+    private final WalletRepository walletRepository;
+    private final int chunkSize;
+    private final Counter expiredHolds;
+
+    public WalletHoldSweeper(WalletRepository walletRepository, WalletProperties properties, MeterRegistry meterRegistry) {
+        this.walletRepository = walletRepository;
+        this.chunkSize = properties.getHolds().getSweepChunkSize();
+        this.expiredHolds = Counter.builder("wallet.holds.expired")
+                .description("Pending holds released by the expiry sweeper")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${wallet.holds.sweep-interval:PT1M}")
+    public void expireHolds() {
+        int expired;
+        do {
+            expired = walletRepository.expireHolds(chunkSize);
+            expiredHolds.increment(expired);
+        } while (expired == chunkSize);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.bankaccount.service;
+
+import com.example.bankaccount.entity.WalletTransaction;
+import com.example.bankaccount.exception.WalletNotFoundException;
+import com.example.bankaccount.model.Money;
+import com.example.bankaccount.model.WalletTransactionPageResponseModel;
+import com.example.bankaccount.model.WalletTransactionResponseModel;
+import com.example.bankaccount.model.enums.OperationType;
+import com.example.bankaccount.repository.WalletRepository;
+import com.example.bankaccount.repository.WalletTransactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class WalletLedgerService {
+
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private final WalletTransactionRepository walletTransactionRepository;
+    private final WalletRepository walletRepository;
+
+    public void append(UUID walletId, OperationType operationType, Money amount, Money balanceAfter) {
+        appendAll(List.of(entry(walletId, operationType, amount, balanceAfter)));
+    }
+
+    public void appendAll(Collection<WalletTransaction> transactions) {
+        if (!transactions.isEmpty()) {
+            walletTransactionRepository.appendAll(transactions);
+        }
+    }
+
+    public static WalletTransaction entry(UUID walletId, OperationType operationType, Money amount, Money balanceAfter) {
+        return WalletTransaction.builder()
+                .walletId(walletId)
+                .operationType(operationType)
+                .amount(amount)
+                .balanceAfter(balanceAfter)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public WalletTransactionPageResponseModel getTransactions(UUID walletId, Long cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        List<WalletTransaction> transactions = cursor == null
+                ? walletTransactionRepository.findByWalletIdOrderByIdDesc(walletId, Limit.of(limit))
+                : walletTransactionRepository.findByWalletIdAndIdLessThanOrderByIdDesc(walletId, cursor, Limit.of(limit));
+        if (transactions.isEmpty() && cursor == null && !walletRepository.existsById(walletId)) {
+            throw new WalletNotFoundException("Wallet not found");
+        }
+
+        Long nextCursor = transactions.size() == limit ? transactions.get(transactions.size() - 1).getId() : null;
+        return new WalletTransactionPageResponseModel(transactions.stream()
+                .map(transaction -> new WalletTransactionResponseModel(
+                        transaction.getId(),
+                        transaction.getWalletId(),
+                        transaction.getOperationType(),
+                        transaction.getAmount(),
+                        transaction.getBalanceAfter(),
+                        transaction.getCreatedAt()))
+                .toList(), nextCursor);
+    }
+}
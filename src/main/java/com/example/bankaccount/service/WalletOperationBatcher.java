@@ -0,0 +1,142 @@
+package com.example.bankaccount.service;
+
+import com.example.bankaccount.config.WalletProperties;
+import com.example.bankaccount.exception.ServiceOverloadedException;
+import com.example.bankaccount.metrics.DatabaseTime;
+import com.example.bankaccount.metrics.WalletMetrics;
+import com.example.bankaccount.model.WalletBalanceResponseModel;
+import com.example.bankaccount.model.WalletOperationRequestModel;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+@Component
+public class WalletOperationBatcher implements DisposableBean {
+
+    private final WalletBatchProcessor batchProcessor;
+    private final WalletMetrics walletMetrics;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long windowNanos;
+    private final BlockingQueue<PendingOperation> queue;
+    private final Thread[] flushers;
+    private volatile boolean running = true;
+
+    public WalletOperationBatcher(WalletBatchProcessor batchProcessor, WalletProperties properties,
+                                  WalletMetrics walletMetrics) {
+        WalletProperties.Batch batch = properties.getBatch();
+        this.batchProcessor = batchProcessor;
+        this.walletMetrics = walletMetrics;
+        this.enabled = batch.isEnabled();
+        this.maxBatchSize = batch.getMaxSize();
+        this.windowNanos = batch.getWindow().toNanos();
+        this.queue = new ArrayBlockingQueue<>(batch.getQueueCapacity());
+        this.flushers = new Thread[enabled ? batch.getFlushThreads() : 0];
+        for (int i = 0; i < flushers.length; i++) {
+            flushers[i] = new Thread(this::flushLoop, "wallet-batch-flusher-" + i);
+            flushers[i].setDaemon(true);
+            flushers[i].start();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public WalletBalanceResponseModel submit(WalletOperationRequestModel request) {
+        PendingOperation pending = new PendingOperation(request, DatabaseTime.current(),
+                new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            throw new ServiceOverloadedException("Too many pending wallet operations, retry later");
+        }
+        try {
+            return pending.result().get().getOrThrow();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException("Wallet operation interrupted");
+        }
+    }
+
+    private void flushLoop() {
+        List<PendingOperation> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                PendingOperation first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatchSize) {
+                    if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    PendingOperation next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                reject(batch);
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingOperation> batch) {
+        walletMetrics.recordBatch(batch.size());
+        DatabaseTime batchTime = new DatabaseTime();
+        try {
+            List<WalletOperationOutcome> outcomes = DatabaseTime.track(batchTime, () -> batchProcessor.apply(
+                    batch.stream().map(PendingOperation::request).toList()));
+            for (int i = 0; i < batch.size(); i++) {
+                attributeDatabaseTime(batch.get(i), batchTime);
+                batch.get(i).result().complete(outcomes.get(i));
+            }
+        } catch (RuntimeException e) {
+            batch.forEach(pending -> {
+                attributeDatabaseTime(pending, batchTime);
+                pending.result().completeExceptionally(e);
+            });
+        }
+    }
+
+    private static void attributeDatabaseTime(PendingOperation pending, DatabaseTime batchTime) {
+        if (pending.databaseTime() != null) {
+            pending.databaseTime().add(batchTime.nanos());
+        }
+    }
+
+    private void reject(List<PendingOperation> pendingOperations) {
+        ServiceOverloadedException error = new ServiceOverloadedException("Wallet operations are shutting down");
+        pendingOperations.forEach(pending -> pending.result().completeExceptionally(error));
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        for (Thread flusher : flushers) {
+            flusher.interrupt();
+        }
+        List<PendingOperation> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        reject(remaining);
+    }
+
+    private record PendingOperation(WalletOperationRequestModel request, DatabaseTime databaseTime,
+                                    CompletableFuture<WalletOperationOutcome> result) {
+    }
+}
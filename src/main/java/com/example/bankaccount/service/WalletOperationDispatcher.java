@@ -0,0 +1,70 @@
+package com.example.bankaccount.service;
+
+import com.example.bankaccount.config.LockingStrategy;
+import com.example.bankaccount.config.WalletProperties;
+import com.example.bankaccount.engine.InMemoryWalletEngine;
+import com.example.bankaccount.metrics.DatabaseTime;
+import com.example.bankaccount.metrics.WalletMetrics;
+import com.example.bankaccount.model.WalletBalanceResponseModel;
+import com.example.bankaccount.model.WalletOperationRequestModel;
+import com.example.bankaccount.model.enums.OperationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class WalletOperationDispatcher {
+
+    private final WalletService walletService;
+    private final HotWalletExecutor hotWalletExecutor;
+    private final WalletOperationBatcher walletOperationBatcher;
+    private final IdempotencyService idempotencyService;
+    private final ShardedWalletService shardedWalletService;
+    private final WalletMetrics walletMetrics;
+    private final InMemoryWalletEngine inMemoryWalletEngine;
+    private final WalletProperties walletProperties;
+
+    public WalletBalanceResponseModel dispatch(WalletOperationRequestModel request) {
+        LockingStrategy strategy = walletProperties.getLocking().strategyFor(request.walletId());
+        DatabaseTime databaseTime = new DatabaseTime();
+        long start = System.nanoTime();
+        try {
+            WalletBalanceResponseModel response = DatabaseTime.track(databaseTime, () -> route(request));
+            walletMetrics.recordOperation(request.operationType(), strategy, null, System.nanoTime() - start,
+                    databaseTime.nanos());
+            return response;
+        } catch (RuntimeException e) {
+            walletMetrics.recordOperation(request.operationType(), strategy, e, System.nanoTime() - start,
+                    databaseTime.nanos());
+            throw e;
+        }
+    }
+
+    private WalletBalanceResponseModel route(WalletOperationRequestModel request) {
+        Optional<WalletBalanceResponseModel> replayed = idempotencyService.findRecent(request);
+        if (replayed.isPresent())
+            return replayed.get();
+        if (inMemoryWalletEngine.isEnabled())
+            return inMemoryWalletEngine.apply(request);
+        if (shardedWalletService.isSharded(request.walletId()))
+            return apply(request);
+        if (hotWalletExecutor.isHot(request.walletId())) {
+            DatabaseTime databaseTime = DatabaseTime.current();
+            return hotWalletExecutor.execute(request.walletId(),
+                    () -> DatabaseTime.track(databaseTime, () -> apply(request)));
+        }
+        if (walletOperationBatcher.isEnabled() && request.idempotencyKey() == null
+                && request.operationType() != OperationType.TRANSFER)
+            return walletOperationBatcher.submit(request);
+        return apply(request);
+    }
+
+    private WalletBalanceResponseModel apply(WalletOperationRequestModel request) {
+        return switch (request.operationType()) {
+            case WITHDRAW -> walletService.withdraw(request);
+            case TRANSFER -> walletService.transfer(request);
+            case DEPOSIT -> walletService.deposit(request);
+        };
+    }
+}
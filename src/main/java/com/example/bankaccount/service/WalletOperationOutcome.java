@@ -0,0 +1,25 @@
+package com.example.bankaccount.service;
+
+import com.example.bankaccount.model.WalletBalanceResponseModel;
+
+public record WalletOperationOutcome(WalletBalanceResponseModel response, RuntimeException error) {
+
+    public static WalletOperationOutcome success(WalletBalanceResponseModel response) {
+        return new WalletOperationOutcome(response, null);
+    }
+
+    public static WalletOperationOutcome failure(RuntimeException error) {
+        return new WalletOperationOutcome(null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    public WalletBalanceResponseModel getOrThrow() {
+        if (error != null) {
+            throw error;
+        }
+        return response;
+    }
+}
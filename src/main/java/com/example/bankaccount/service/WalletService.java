@@ -1,16 +1,44 @@
 package com.example.bankaccount.service;
 
+import com.example.bankaccount.cache.WalletBalanceCache;
+import com.example.bankaccount.config.WalletProperties;
+import com.example.bankaccount.config.WritePath;
+import com.example.bankaccount.engine.InMemoryWalletEngine;
 import com.example.bankaccount.entity.Wallet;
+import com.example.bankaccount.exception.HoldNotFoundException;
+import com.example.bankaccount.exception.HoldNotPendingException;
 import com.example.bankaccount.exception.InsufficientFundsException;
+import com.example.bankaccount.exception.InvalidOperationException;
 import com.example.bankaccount.exception.WalletNotFoundException;
+import com.example.bankaccount.model.Money;
+import com.example.bankaccount.model.WalletBalanceLookupResponseModel;
 import com.example.bankaccount.model.WalletBalanceResponseModel;
+import com.example.bankaccount.model.WalletHoldRequestModel;
+import com.example.bankaccount.model.WalletHoldResponseModel;
 import com.example.bankaccount.model.WalletOperationRequestModel;
+import com.example.bankaccount.model.enums.HoldStatus;
+import com.example.bankaccount.model.enums.OperationType;
+import com.example.bankaccount.replica.ReadConsistency;
+import com.example.bankaccount.repository.AtomicWithdrawResult;
+import com.example.bankaccount.repository.HoldSettlement;
+import com.example.bankaccount.repository.WalletFunds;
+import com.example.bankaccount.repository.WalletHoldSnapshot;
 import com.example.bankaccount.repository.WalletRepository;
+import com.example.bankaccount.repository.WalletSnapshot;
 import lombok.RequiredArgsConstructor;
-import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -18,38 +46,260 @@ import java.util.UUID;
 public class WalletService {
 
     private final WalletRepository walletRepository;
+    private final WalletProperties walletProperties;
+    private final WalletBalanceCache walletBalanceCache;
+    private final WalletLedgerService walletLedgerService;
+    private final IdempotencyService idempotencyService;
+    private final ShardedWalletService shardedWalletService;
+    private final InMemoryWalletEngine inMemoryWalletEngine;
+    private final WalletBalanceReader walletBalanceReader;
 
     public WalletBalanceResponseModel getWalletBalance(UUID walletId) {
-        Wallet wallet = walletRepository.findById(walletId)
+        if (inMemoryWalletEngine.isEnabled()) {
+            return inMemoryWalletEngine.getWalletBalance(walletId);
+        }
+        if (shardedWalletService.isSharded(walletId)) {
+            return shardedWalletService.getWalletBalance(walletId);
+        }
+        Optional<WalletBalanceResponseModel> cached = ReadConsistency.isRequired()
+                ? Optional.empty()
+                : walletBalanceCache.get(walletId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        Wallet wallet = walletBalanceReader.findById(walletId)
                 .orElseThrow(() -> new WalletNotFoundException("Wallet not found"));
+        walletBalanceCache.put(wallet.getWalletId(), wallet.getBalance(), wallet.getVersion());
         return new WalletBalanceResponseModel(wallet.getWalletId(), wallet.getBalance());
     }
 
-    @Retryable(retryFor = OptimisticLockingFailureException.class, maxAttempts = 3)
+    public WalletBalanceLookupResponseModel getWalletBalances(List<UUID> walletIds) {
+        WalletProperties.Lookup lookup = walletProperties.getLookup();
+        if (walletIds.size() > lookup.getMaxWallets()) {
+            throw new IllegalArgumentException("At most " + lookup.getMaxWallets() + " wallets can be looked up at once");
+        }
+        Set<UUID> requested = new LinkedHashSet<>(walletIds);
+        Map<UUID, Money> found = inMemoryWalletEngine.isEnabled()
+                ? inMemoryWalletEngine.getWalletBalances(requested)
+                : new HashMap<>(requested.size() * 2);
+        List<UUID> uncached = new ArrayList<>();
+        boolean bypassCache = ReadConsistency.isRequired();
+        for (UUID walletId : requested) {
+            if (found.containsKey(walletId)) {
+                continue;
+            }
+            if (bypassCache || shardedWalletService.isSharded(walletId)) {
+                uncached.add(walletId);
+            } else {
+                walletBalanceCache.get(walletId).ifPresentOrElse(
+                        cached -> found.put(walletId, cached.balance()), () -> uncached.add(walletId));
+            }
+        }
+        if (!uncached.isEmpty()) {
+            for (WalletSnapshot wallet : walletBalanceReader.findBalances(uncached, lookup.getChunkSize())) {
+                found.put(wallet.walletId(), wallet.balance());
+                if (!shardedWalletService.isSharded(wallet.walletId())) {
+                    walletBalanceCache.put(wallet.walletId(), wallet.balance(), wallet.version());
+                }
+            }
+        }
+
+        List<WalletBalanceResponseModel> balances = new ArrayList<>(found.size());
+        List<UUID> missing = new ArrayList<>();
+        for (UUID walletId : requested) {
+            Money balance = found.get(walletId);
+            if (balance == null) {
+                missing.add(walletId);
+            } else {
+                balances.add(new WalletBalanceResponseModel(walletId, balance));
+            }
+        }
+        return new WalletBalanceLookupResponseModel(balances, missing);
+    }
+
+    @Retryable(interceptor = "walletRetryInterceptor")
     @Transactional
     public WalletBalanceResponseModel deposit(WalletOperationRequestModel request) {
-        Wallet wallet = walletRepository.findById(request.walletId())
-                .orElseThrow(() -> new WalletNotFoundException("Wallet not found"));
+        Optional<WalletBalanceResponseModel> replayed = idempotencyService.reserve(request);
+        if (replayed.isPresent())
+            return replayed.get();
+        if (shardedWalletService.isSharded(request.walletId()))
+            return idempotencyService.complete(request, shardedWalletService.deposit(request));
+        if (walletProperties.getWritePath() == WritePath.ATOMIC)
+            return depositAtomically(request);
+
+        Wallet wallet = findForUpdate(request.walletId());
 
         wallet.setBalance(wallet.getBalance().add(request.amount()));
         wallet = walletRepository.save(wallet);
+        walletLedgerService.append(wallet.getWalletId(), OperationType.DEPOSIT, request.amount(), wallet.getBalance());
+        walletBalanceCache.putAfterCommit(wallet);
 
-        return new WalletBalanceResponseModel(wallet.getWalletId(), wallet.getBalance());
+        return idempotencyService.complete(request, new WalletBalanceResponseModel(wallet.getWalletId(), wallet.getBalance()));
     }
 
-    @Retryable(retryFor = OptimisticLockingFailureException.class, maxAttempts = 3)
+    @Retryable(interceptor = "walletRetryInterceptor")
     @Transactional
     public WalletBalanceResponseModel withdraw(WalletOperationRequestModel request) {
-        Wallet wallet = walletRepository.findById(request.walletId())
-                .orElseThrow(() -> new WalletNotFoundException("Wallet not found"));
+        Optional<WalletBalanceResponseModel> replayed = idempotencyService.reserve(request);
+        if (replayed.isPresent())
+            return replayed.get();
+        if (shardedWalletService.isSharded(request.walletId()))
+            return idempotencyService.complete(request, shardedWalletService.withdraw(request));
+        if (walletProperties.getWritePath() == WritePath.ATOMIC)
+            return withdrawAtomically(request);
+
+        Wallet wallet = findForUpdate(request.walletId());
 
-        if (wallet.getBalance().compareTo(request.amount()) < 0) {
+        if (wallet.getAvailable().compareTo(request.amount()) < 0) {
             throw new InsufficientFundsException("Insufficient funds");
         }
 
         wallet.setBalance(wallet.getBalance().subtract(request.amount()));
         wallet = walletRepository.save(wallet);
+        walletLedgerService.append(wallet.getWalletId(), OperationType.WITHDRAW, request.amount(), wallet.getBalance());
+        walletBalanceCache.putAfterCommit(wallet);
 
-        return new WalletBalanceResponseModel(wallet.getWalletId(), wallet.getBalance());
+        return idempotencyService.complete(request, new WalletBalanceResponseModel(wallet.getWalletId(), wallet.getBalance()));
+    }
+
+    @Transactional
+    public WalletBalanceResponseModel transfer(WalletOperationRequestModel request) {
+        UUID sourceId = request.walletId();
+        UUID targetId = request.targetWalletId();
+        if (sourceId == null || targetId == null || sourceId.equals(targetId)) {
+            throw new InvalidOperationException("Transfer requires two different wallets");
+        }
+        if (shardedWalletService.isSharded(sourceId) || shardedWalletService.isSharded(targetId)) {
+            throw new InvalidOperationException("Transfers are not supported for sharded wallets");
+        }
+        Optional<WalletBalanceResponseModel> replayed = idempotencyService.reserve(request);
+        if (replayed.isPresent())
+            return replayed.get();
+
+        List<Wallet> wallets = lockAll(sourceId, List.of(sourceId, targetId));
+        Wallet source = wallets.stream().filter(wallet -> wallet.getWalletId().equals(sourceId)).findFirst()
+                .orElseThrow(() -> new WalletNotFoundException("Wallet not found"));
+        Wallet target = wallets.stream().filter(wallet -> wallet.getWalletId().equals(targetId)).findFirst()
+                .orElseThrow(() -> new WalletNotFoundException("Target wallet not found"));
+
+        if (source.getAvailable().compareTo(request.amount()) < 0) {
+            throw new InsufficientFundsException("Insufficient funds");
+        }
+
+        source.setBalance(source.getBalance().subtract(request.amount()));
+        target.setBalance(target.getBalance().add(request.amount()));
+        walletRepository.saveAll(wallets);
+        walletLedgerService.append(sourceId, OperationType.TRANSFER, request.amount().negate(), source.getBalance());
+        walletLedgerService.append(targetId, OperationType.TRANSFER, request.amount(), target.getBalance());
+        walletBalanceCache.putAfterCommit(source);
+        walletBalanceCache.putAfterCommit(target);
+
+        return idempotencyService.complete(request, new WalletBalanceResponseModel(sourceId, source.getBalance()));
+    }
+
+    @Transactional
+    public WalletHoldResponseModel placeHold(WalletHoldRequestModel request) {
+        if (inMemoryWalletEngine.isEnabled() || shardedWalletService.isSharded(request.walletId())) {
+            throw new InvalidOperationException("Holds are not supported for this wallet");
+        }
+        WalletProperties.Holds holds = walletProperties.getHolds();
+        Duration ttl = request.expiresIn() == null ? holds.getDefaultTtl() : request.expiresIn();
+        if (ttl.isNegative() || ttl.isZero() || ttl.compareTo(holds.getMaxTtl()) > 0) {
+            throw new InvalidOperationException("Hold expiry must be positive and at most " + holds.getMaxTtl());
+        }
+
+        UUID holdId = UUID.randomUUID();
+        Instant expiresAt = Instant.now().plus(ttl).truncatedTo(ChronoUnit.MICROS);
+        WalletFunds wallet = walletRepository.placeHold(holdId, request.walletId(), request.amount(), expiresAt)
+                .orElseThrow(() -> walletRepository.existsById(request.walletId())
+                        ? new InsufficientFundsException("Insufficient funds")
+                        : new WalletNotFoundException("Wallet not found"));
+        walletBalanceCache.putAfterCommit(wallet.walletId(), wallet.balance(), wallet.version());
+        return holdResponse(holdId, HoldStatus.PENDING, request.amount(), expiresAt, wallet);
+    }
+
+    @Transactional
+    public WalletHoldResponseModel captureHold(UUID holdId) {
+        HoldSettlement settlement = walletRepository.captureHold(holdId).orElseThrow(() -> unsettledHold(holdId));
+        WalletFunds wallet = settlement.wallet();
+        walletLedgerService.append(wallet.walletId(), OperationType.WITHDRAW, settlement.amount(), wallet.balance());
+        walletBalanceCache.putAfterCommit(wallet.walletId(), wallet.balance(), wallet.version());
+        return holdResponse(holdId, HoldStatus.CAPTURED, settlement.amount(), settlement.expiresAt(), wallet);
+    }
+
+    @Transactional
+    public WalletHoldResponseModel releaseHold(UUID holdId) {
+        HoldSettlement settlement = walletRepository.releaseHold(holdId).orElseThrow(() -> unsettledHold(holdId));
+        WalletFunds wallet = settlement.wallet();
+        walletBalanceCache.putAfterCommit(wallet.walletId(), wallet.balance(), wallet.version());
+        return holdResponse(holdId, HoldStatus.RELEASED, settlement.amount(), settlement.expiresAt(), wallet);
+    }
+
+    private RuntimeException unsettledHold(UUID holdId) {
+        WalletHoldSnapshot hold = walletRepository.findHold(holdId)
+                .orElseThrow(() -> new HoldNotFoundException("Hold not found"));
+        return hold.status() == HoldStatus.PENDING
+                ? new HoldNotPendingException("Hold has expired")
+                : new HoldNotPendingException("Hold is already " + hold.status().name().toLowerCase());
+    }
+
+    private static WalletHoldResponseModel holdResponse(UUID holdId, HoldStatus status, Money amount, Instant expiresAt,
+                                                        WalletFunds wallet) {
+        return new WalletHoldResponseModel(holdId, wallet.walletId(), amount, status, expiresAt,
+                wallet.balance(), wallet.available());
+    }
+
+    private Wallet findForUpdate(UUID walletId) {
+        WalletProperties.Locking locking = walletProperties.getLocking();
+        Optional<Wallet> wallet = switch (locking.strategyFor(walletId)) {
+            case OPTIMISTIC -> walletRepository.findById(walletId);
+            case PESSIMISTIC -> {
+                walletRepository.setLockTimeout(locking.getLockTimeout());
+                yield walletRepository.findByIdForUpdate(walletId);
+            }
+            case NOWAIT -> walletRepository.findByIdForUpdateNoWait(walletId);
+        };
+        return wallet.orElseThrow(() -> new WalletNotFoundException("Wallet not found"));
+    }
+
+    private List<Wallet> lockAll(UUID sourceId, List<UUID> walletIds) {
+        WalletProperties.Locking locking = walletProperties.getLocking();
+        return switch (locking.strategyFor(sourceId)) {
+            case OPTIMISTIC -> walletRepository.findAllByIdForUpdate(walletIds);
+            case PESSIMISTIC -> {
+                walletRepository.setLockTimeout(locking.getLockTimeout());
+                yield walletRepository.findAllByIdForUpdate(walletIds);
+            }
+            case NOWAIT -> walletRepository.findAllByIdForUpdateNoWait(walletIds);
+        };
+    }
+
+    private WalletBalanceResponseModel depositAtomically(WalletOperationRequestModel request) {
+        if (request.walletId() == null) {
+            throw new WalletNotFoundException("Wallet not found");
+        }
+        WalletSnapshot wallet = walletRepository.depositAtomically(request.walletId(), request.amount())
+                .orElseThrow(() -> new WalletNotFoundException("Wallet not found"));
+        walletLedgerService.append(wallet.walletId(), OperationType.DEPOSIT, request.amount(), wallet.balance());
+        walletBalanceCache.putAfterCommit(wallet.walletId(), wallet.balance(), wallet.version());
+        return idempotencyService.complete(request, new WalletBalanceResponseModel(wallet.walletId(), wallet.balance()));
+    }
+
+    private WalletBalanceResponseModel withdrawAtomically(WalletOperationRequestModel request) {
+        if (request.walletId() == null) {
+            throw new WalletNotFoundException("Wallet not found");
+        }
+        AtomicWithdrawResult result = walletRepository.withdrawAtomically(request.walletId(), request.amount());
+        if (!result.walletFound()) {
+            throw new WalletNotFoundException("Wallet not found");
+        }
+        if (result.wallet() == null) {
+            throw new InsufficientFundsException("Insufficient funds");
+        }
+        WalletSnapshot wallet = result.wallet();
+        walletLedgerService.append(wallet.walletId(), OperationType.WITHDRAW, request.amount(), wallet.balance());
+        walletBalanceCache.putAfterCommit(wallet.walletId(), wallet.balance(), wallet.version());
+        return idempotencyService.complete(request, new WalletBalanceResponseModel(wallet.walletId(), wallet.balance()));
     }
-}
\ No newline at end of file
+}
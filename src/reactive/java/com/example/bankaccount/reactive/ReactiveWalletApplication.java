@@ -0,0 +1,24 @@
+package com.example.bankaccount.reactive;
+
+import com.example.bankaccount.config.WalletProperties;
+import com.example.bankaccount.handler.GlobalExceptionHandler;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Profile;
+
+@Profile("reactive")
+@SpringBootApplication
+@EnableConfigurationProperties(WalletProperties.class)
+@Import(GlobalExceptionHandler.class)
+public class ReactiveWalletApplication {
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ReactiveWalletApplication.class)
+                .profiles("reactive")
+                .web(WebApplicationType.REACTIVE)
+                .run(args);
+    }
+}
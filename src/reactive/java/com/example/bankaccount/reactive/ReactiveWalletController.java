@@ -0,0 +1,40 @@
+package com.example.bankaccount.reactive;
+
+import com.example.bankaccount.model.WalletBalanceResponseModel;
+import com.example.bankaccount.model.WalletOperationRequestModel;
+import com.example.bankaccount.model.WalletTransactionPageResponseModel;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import java.util.UUID;
+
+@Profile("reactive")
+@RestController
+@RequestMapping("/api/v1/wallet")
+@RequiredArgsConstructor
+public class ReactiveWalletController {
+
+    private final ReactiveWalletService reactiveWalletService;
+
+    @GetMapping("/{walletId}")
+    public Mono<ResponseEntity<WalletBalanceResponseModel>> getWalletBalance(@PathVariable UUID walletId) {
+        return reactiveWalletService.getWalletBalance(walletId).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{walletId}/transactions")
+    public Mono<ResponseEntity<WalletTransactionPageResponseModel>> getTransactions(
+            @PathVariable UUID walletId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "100") int limit) {
+        return reactiveWalletService.getTransactions(walletId, cursor, limit).map(ResponseEntity::ok);
+    }
+
+    @PostMapping()
+    public Mono<ResponseEntity<WalletBalanceResponseModel>> depositAndWithdraw(
+            @RequestBody @Valid WalletOperationRequestModel request) {
+        return reactiveWalletService.apply(request).map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.bankaccount.reactive;
+
+import com.example.bankaccount.entity.WalletIdempotencyKey;
+import com.example.bankaccount.model.Money;
+import com.example.bankaccount.model.WalletBalanceResponseModel;
+import com.example.bankaccount.model.WalletOperationRequestModel;
+import com.example.bankaccount.model.WalletTransactionResponseModel;
+import com.example.bankaccount.model.enums.OperationType;
+import com.example.bankaccount.repository.AtomicWithdrawResult;
+import com.example.bankaccount.repository.WalletFunds;
+import com.example.bankaccount.repository.WalletSnapshot;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.UUID;
+
+@Profile("reactive")
+@Repository
+@RequiredArgsConstructor
+public class ReactiveWalletRepository {
+
+    private static final String FIND_BALANCE = """
+            SELECT wallet_id, balance, version FROM wallets
+            WHERE wallet_id = :walletId""";
+
+    private static final String LOCK_ALL_BY_ID = """
+            SELECT wallet_id, balance, held, version FROM wallets
+            WHERE wallet_id IN (:walletIds)
+            ORDER BY wallet_id
+            FOR UPDATE""";
+
+    private static final String UPDATE_BALANCE = """
+            UPDATE wallets SET balance = :balance, version = version + 1
+            WHERE wallet_id = :walletId""";
+
+    private static final String DEPOSIT_ATOMICALLY = """
+            UPDATE wallets SET balance = balance + :amount, version = version + 1
+            WHERE wallet_id = :walletId
+            RETURNING wallet_id, balance, version""";
+
+    private static final String WITHDRAW_ATOMICALLY = """
+            WITH updated AS (
+                UPDATE wallets SET balance = balance - :amount, version = version + 1
+                WHERE wallet_id = :walletId AND balance - held >= :amount
+                RETURNING wallet_id, balance, version)
+            SELECT updated.wallet_id, updated.balance, updated.version,
+                   EXISTS (SELECT 1 FROM wallets WHERE wallet_id = :walletId) AS wallet_found
+            FROM (SELECT 1) AS single_row
+            LEFT JOIN updated ON true""";
+
+    private static final String APPEND_TRANSACTION = """
+            INSERT INTO wallet_transactions (wallet_id, operation_type, amount, balance_after)
+            VALUES (:walletId, :operationType, :amount, :balanceAfter)""";
+
+    private static final String FIND_TRANSACTIONS = """
+            SELECT id, wallet_id, operation_type, amount, balance_after, created_at FROM wallet_transactions
+            WHERE wallet_id = :walletId AND id < :cursor
+            ORDER BY id DESC
+            LIMIT :limit""";
+
+    private static final String INSERT_IDEMPOTENCY_KEY = """
+            INSERT INTO wallet_idempotency_keys (idempotency_key, wallet_id, operation_type, amount, target_wallet_id)
+            VALUES (:idempotencyKey, :walletId, :operationType, :amount, :targetWalletId)
+            ON CONFLICT (idempotency_key) DO NOTHING""";
+
+    private static final String RECORD_IDEMPOTENCY_RESPONSE = """
+            UPDATE wallet_idempotency_keys SET balance = :balance
+            WHERE idempotency_key = :idempotencyKey""";
+
+    private static final String FIND_IDEMPOTENCY_KEY = """
+            SELECT wallet_id, operation_type, amount, target_wallet_id, balance FROM wallet_idempotency_keys
+            WHERE idempotency_key = :idempotencyKey""";
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<WalletSnapshot> findById(UUID walletId) {
+        return databaseClient.sql(FIND_BALANCE)
+                .bind("walletId", walletId)
+                .map((row, metadata) -> snapshot(row))
+                .one();
+    }
+
+    public Flux<WalletFunds> lockAllByIdOrdered(Collection<UUID> walletIds) {
+        return databaseClient.sql(LOCK_ALL_BY_ID)
+                .bind("walletIds", walletIds)
+                .map((row, metadata) -> new WalletFunds(
+                        row.get("wallet_id", UUID.class),
+                        money(row, "balance"),
+                        money(row, "held"),
+                        row.get("version", Long.class)))
+                .all();
+    }
+
+    public Mono<Void> updateBalance(UUID walletId, Money balance) {
+        return databaseClient.sql(UPDATE_BALANCE)
+                .bind("balance", balance.toBigDecimal())
+                .bind("walletId", walletId)
+                .then();
+    }
+
+    public Mono<WalletSnapshot> depositAtomically(UUID walletId, Money amount) {
+        return databaseClient.sql(DEPOSIT_ATOMICALLY)
+                .bind("amount", amount.toBigDecimal())
+                .bind("walletId", walletId)
+                .map((row, metadata) -> snapshot(row))
+                .one();
+    }
+
+    public Mono<AtomicWithdrawResult> withdrawAtomically(UUID walletId, Money amount) {
+        return databaseClient.sql(WITHDRAW_ATOMICALLY)
+                .bind("amount", amount.toBigDecimal())
+                .bind("walletId", walletId)
+                .map((row, metadata) -> new AtomicWithdrawResult(
+                        row.get("wallet_id") == null ? null : snapshot(row),
+                        Boolean.TRUE.equals(row.get("wallet_found", Boolean.class))))
+                .one();
+    }
+
+    public Mono<Void> appendTransaction(UUID walletId, OperationType operationType, Money amount, Money balanceAfter) {
+        return databaseClient.sql(APPEND_TRANSACTION)
+                .bind("walletId", walletId)
+                .bind("operationType", operationType.name())
+                .bind("amount", amount.toBigDecimal())
+                .bind("balanceAfter", balanceAfter.toBigDecimal())
+                .then();
+    }
+
+    public Flux<WalletTransactionResponseModel> findTransactions(UUID walletId, Long cursor, int limit) {
+        return databaseClient.sql(FIND_TRANSACTIONS)
+                .bind("walletId", walletId)
+                .bind("cursor", cursor == null ? Long.MAX_VALUE : cursor)
+                .bind("limit", limit)
+                .map((row, metadata) -> new WalletTransactionResponseModel(
+                        row.get("id", Long.class),
+                        row.get("wallet_id", UUID.class),
+                        OperationType.valueOf(row.get("operation_type", String.class)),
+                        money(row, "amount"),
+                        money(row, "balance_after"),
+                        row.get("created_at", Instant.class)))
+                .all();
+    }
+
+    public Mono<Boolean> insertIdempotencyKey(WalletOperationRequestModel request) {
+        DatabaseClient.GenericExecuteSpec insert = databaseClient.sql(INSERT_IDEMPOTENCY_KEY)
+                .bind("idempotencyKey", request.idempotencyKey())
+                .bind("walletId", request.walletId())
+                .bind("operationType", request.operationType().name())
+                .bind("amount", request.amount().toBigDecimal());
+        insert = request.targetWalletId() == null
+                ? insert.bindNull("targetWalletId", UUID.class)
+                : insert.bind("targetWalletId", request.targetWalletId());
+        return insert
+                .fetch()
+                .rowsUpdated()
+                .map(inserted -> inserted > 0);
+    }
+
+    public Mono<Void> recordIdempotencyResponse(String idempotencyKey, WalletBalanceResponseModel response) {
+        return databaseClient.sql(RECORD_IDEMPOTENCY_RESPONSE)
+                .bind("idempotencyKey", idempotencyKey)
+                .bind("balance", response.balance().toBigDecimal())
+                .then();
+    }
+
+    public Mono<WalletIdempotencyKey> findIdempotencyKey(String idempotencyKey) {
+        return databaseClient.sql(FIND_IDEMPOTENCY_KEY)
+                .bind("idempotencyKey", idempotencyKey)
+                .map((row, metadata) -> {
+                    String operationType = row.get("operation_type", String.class);
+                    return WalletIdempotencyKey.builder()
+                            .idempotencyKey(idempotencyKey)
+                            .walletId(row.get("wallet_id", UUID.class))
+                            .operationType(operationType == null ? null : OperationType.valueOf(operationType))
+                            .amount(money(row, "amount"))
+                            .targetWalletId(row.get("target_wallet_id", UUID.class))
+                            .balance(money(row, "balance"))
+                            .build();
+                })
+                .one();
+    }
+
+    private static WalletSnapshot snapshot(Row row) {
+        return new WalletSnapshot(
+                row.get("wallet_id", UUID.class),
+                money(row, "balance"),
+                row.get("version", Long.class));
+    }
+
+    private static Money money(Row row, String column) {
+        BigDecimal value = row.get(column, BigDecimal.class);
+        return value == null ? null : Money.of(value);
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.bankaccount.reactive;
+
+import com.example.bankaccount.exception.InsufficientFundsException;
+import com.example.bankaccount.exception.InvalidOperationException;
+import com.example.bankaccount.exception.WalletNotFoundException;
+import com.example.bankaccount.model.Money;
+import com.example.bankaccount.model.WalletBalanceResponseModel;
+import com.example.bankaccount.model.WalletOperationRequestModel;
+import com.example.bankaccount.model.WalletTransactionPageResponseModel;
+import com.example.bankaccount.model.WalletTransactionResponseModel;
+import com.example.bankaccount.model.enums.OperationType;
+import com.example.bankaccount.repository.WalletFunds;
+import com.example.bankaccount.repository.WalletSnapshot;
+import com.example.bankaccount.service.IdempotencyService;
+import com.example.bankaccount.service.WalletLedgerService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import java.util.List;
+import java.util.UUID;
+
+@Profile("reactive")
+@Service
+@RequiredArgsConstructor
+public class ReactiveWalletService {
+
+    private final ReactiveWalletRepository reactiveWalletRepository;
+    private final TransactionalOperator transactionalOperator;
+
+    public Mono<WalletBalanceResponseModel> getWalletBalance(UUID walletId) {
+        return reactiveWalletRepository.findById(walletId)
+                .map(wallet -> new WalletBalanceResponseModel(wallet.walletId(), wallet.balance()))
+                .switchIfEmpty(Mono.error(() -> new WalletNotFoundException("Wallet not found")));
+    }
+
+    public Mono<WalletTransactionPageResponseModel> getTransactions(UUID walletId, Long cursor, int limit) {
+        if (limit < 1 || limit > WalletLedgerService.MAX_PAGE_SIZE) {
+            return Mono.error(new IllegalArgumentException("Limit must be between 1 and " + WalletLedgerService.MAX_PAGE_SIZE));
+        }
+        return reactiveWalletRepository.findTransactions(walletId, cursor, limit)
+                .collectList()
+                .flatMap(transactions -> {
+                    Long nextCursor = transactions.size() == limit ? transactions.get(transactions.size() - 1).id() : null;
+                    WalletTransactionPageResponseModel page = new WalletTransactionPageResponseModel(transactions, nextCursor);
+                    if (!transactions.isEmpty() || cursor != null) {
+                        return Mono.just(page);
+                    }
+                    return getWalletBalance(walletId).thenReturn(page);
+                });
+    }
+
+    public Mono<WalletBalanceResponseModel> apply(WalletOperationRequestModel request) {
+        return transactionalOperator.transactional(reserve(request)
+                .switchIfEmpty(Mono.defer(() -> write(request).flatMap(response -> complete(request, response)))));
+    }
+
+    private Mono<WalletBalanceResponseModel> write(WalletOperationRequestModel request) {
+        return switch (request.operationType()) {
+            case WITHDRAW -> withdraw(request);
+            case TRANSFER -> transfer(request);
+            case DEPOSIT -> deposit(request);
+        };
+    }
+
+    private Mono<WalletBalanceResponseModel> deposit(WalletOperationRequestModel request) {
+        return reactiveWalletRepository.depositAtomically(request.walletId(), request.amount())
+                .switchIfEmpty(Mono.error(() -> new WalletNotFoundException("Wallet not found")))
+                .flatMap(wallet -> record(wallet, OperationType.DEPOSIT, request));
+    }
+
+    private Mono<WalletBalanceResponseModel> withdraw(WalletOperationRequestModel request) {
+        return reactiveWalletRepository.withdrawAtomically(request.walletId(), request.amount())
+                .flatMap(result -> {
+                    if (!result.walletFound()) {
+                        return Mono.error(new WalletNotFoundException("Wallet not found"));
+                    }
+                    if (result.wallet() == null) {
+                        return Mono.error(new InsufficientFundsException("Insufficient funds"));
+                    }
+                    return record(result.wallet(), OperationType.WITHDRAW, request);
+                });
+    }
+
+    private Mono<WalletBalanceResponseModel> transfer(WalletOperationRequestModel request) {
+        UUID sourceId = request.walletId();
+        UUID targetId = request.targetWalletId();
+        if (sourceId == null || targetId == null || sourceId.equals(targetId)) {
+            return Mono.error(new InvalidOperationException("Transfer requires two different wallets"));
+        }
+        return reactiveWalletRepository.lockAllByIdOrdered(List.of(sourceId, targetId))
+                .collectList()
+                .flatMap(wallets -> {
+                    WalletFunds source = find(wallets, sourceId);
+                    WalletFunds target = find(wallets, targetId);
+                    if (source == null) {
+                        return Mono.error(new WalletNotFoundException("Wallet not found"));
+                    }
+                    if (target == null) {
+                        return Mono.error(new WalletNotFoundException("Target wallet not found"));
+                    }
+                    if (source.available().compareTo(request.amount()) < 0) {
+                        return Mono.error(new InsufficientFundsException("Insufficient funds"));
+                    }
+                    Money sourceBalance = source.balance().subtract(request.amount());
+                    Money targetBalance = target.balance().add(request.amount());
+                    return reactiveWalletRepository.updateBalance(sourceId, sourceBalance)
+                            .then(reactiveWalletRepository.updateBalance(targetId, targetBalance))
+                            .then(reactiveWalletRepository.appendTransaction(sourceId, OperationType.TRANSFER, request.amount().negate(), sourceBalance))
+                            .then(reactiveWalletRepository.appendTransaction(targetId, OperationType.TRANSFER, request.amount(), targetBalance))
+                            .thenReturn(new WalletBalanceResponseModel(sourceId, sourceBalance));
+                });
+    }
+
+    private Mono<WalletBalanceResponseModel> record(WalletSnapshot wallet, OperationType operationType,
+                                                    WalletOperationRequestModel request) {
+        return reactiveWalletRepository.appendTransaction(wallet.walletId(), operationType, request.amount(), wallet.balance())
+                .thenReturn(new WalletBalanceResponseModel(wallet.walletId(), wallet.balance()));
+    }
+
+    private Mono<WalletBalanceResponseModel> reserve(WalletOperationRequestModel request) {
+        if (request.idempotencyKey() == null || request.walletId() == null) {
+            return Mono.empty();
+        }
+        return reactiveWalletRepository.insertIdempotencyKey(request)
+                .flatMap(inserted -> inserted ? Mono.empty() : reactiveWalletRepository.findIdempotencyKey(request.idempotencyKey())
+                        .filter(original -> original.getBalance() != null)
+                        .switchIfEmpty(Mono.error(() -> new InvalidOperationException("Idempotency key is being processed, retry later")))
+                        .map(original -> {
+                            IdempotencyService.checkSameRequest(request, original);
+                            return new WalletBalanceResponseModel(original.getWalletId(), original.getBalance());
+                        }));
+    }
+
+    private Mono<WalletBalanceResponseModel> complete(WalletOperationRequestModel request,
+                                                      WalletBalanceResponseModel response) {
+        if (request.idempotencyKey() == null) {
+            return Mono.just(response);
+        }
+        return reactiveWalletRepository.recordIdempotencyResponse(request.idempotencyKey(), response)
+                .thenReturn(response);
+    }
+
+    private static WalletFunds find(List<WalletFunds> wallets, UUID walletId) {
+        return wallets.stream().filter(wallet -> wallet.walletId().equals(walletId)).findFirst().orElse(null);
+    }
+}
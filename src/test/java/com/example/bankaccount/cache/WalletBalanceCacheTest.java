@@ -0,0 +1,56 @@
+package com.example.bankaccount.cache;
+
+import com.example.bankaccount.config.WalletProperties;
+import com.example.bankaccount.model.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WalletBalanceCacheTest {
+
+    private final UUID walletId = UUID.randomUUID();
+    private WalletBalanceCache walletBalanceCache;
+
+    @BeforeEach
+    void setUp() {
+        WalletProperties properties = new WalletProperties();
+        properties.getCache().setEnabled(true);
+        walletBalanceCache = new WalletBalanceCache(properties, new SimpleMeterRegistry(),
+                new WalletChangePublisher(null, properties));
+    }
+
+    @Test
+    void put_NewerVersion_ReplacesEntry() {
+        walletBalanceCache.put(walletId, Money.of(100), 1L);
+        walletBalanceCache.put(walletId, Money.of(150), 2L);
+
+        assertEquals(Money.of(150), walletBalanceCache.get(walletId).orElseThrow().balance());
+    }
+
+    @Test
+    void put_OlderVersion_KeepsNewerEntry() {
+        walletBalanceCache.put(walletId, Money.of(150), 2L);
+        walletBalanceCache.put(walletId, Money.of(100), 1L);
+
+        assertEquals(Money.of(150), walletBalanceCache.get(walletId).orElseThrow().balance());
+    }
+
+    @Test
+    void putAfterCommit_NoTransaction_AppliesImmediately() {
+        walletBalanceCache.putAfterCommit(walletId, Money.of(10), 1L);
+
+        assertTrue(walletBalanceCache.get(walletId).isPresent());
+    }
+
+    @Test
+    void get_DisabledCache_AlwaysMisses() {
+        WalletProperties properties = new WalletProperties();
+        WalletBalanceCache disabled = new WalletBalanceCache(properties, new SimpleMeterRegistry(),
+                new WalletChangePublisher(null, properties));
+        disabled.put(walletId, Money.of(10), 1L);
+
+        assertTrue(disabled.get(walletId).isEmpty());
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.bankaccount.cache;
+
+import com.example.bankaccount.config.WalletProperties;
+import com.example.bankaccount.model.Money;
+import com.example.bankaccount.repository.WalletSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WalletChangeListenerTest {
+
+    private final UUID walletId = UUID.randomUUID();
+    private WalletBalanceCache walletBalanceCache;
+    private WalletChangeListener walletChangeListener;
+
+    @BeforeEach
+    void setUp() {
+        WalletProperties properties = new WalletProperties();
+        properties.getCache().setEnabled(true);
+        walletBalanceCache = new WalletBalanceCache(properties, new SimpleMeterRegistry(),
+                new WalletChangePublisher(null, properties));
+        walletChangeListener = new WalletChangeListener(null, walletBalanceCache, properties);
+    }
+
+    @Test
+    void apply_OutOfOrderBurst_KeepsNewestVersion() {
+        walletBalanceCache.put(walletId, Money.of(100), 1L);
+
+        walletChangeListener.apply(List.of(
+                payload(Money.of(130), 4L),
+                payload(Money.of(110), 2L),
+                "not-a-payload",
+                payload(Money.of(120), 3L)));
+
+        assertEquals(Money.of(130), walletBalanceCache.get(walletId).orElseThrow().balance());
+    }
+
+    @Test
+    void apply_OlderThanCached_DoesNotRegress() {
+        walletBalanceCache.put(walletId, Money.of(150), 5L);
+
+        walletChangeListener.apply(List.of(payload(Money.of(90), 4L)));
+
+        assertEquals(Money.of(150), walletBalanceCache.get(walletId).orElseThrow().balance());
+    }
+
+    @Test
+    void apply_UncachedWallet_IsNotPopulated() {
+        walletChangeListener.apply(List.of(payload(Money.of(90), 4L)));
+
+        assertTrue(walletBalanceCache.get(walletId).isEmpty());
+    }
+
+    private String payload(Money balance, long version) {
+        return WalletChangePublisher.encode(new WalletSnapshot(walletId, balance, version));
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.bankaccount.cache;
+
+import com.example.bankaccount.config.WalletProperties;
+import com.example.bankaccount.model.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.Arrays;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class WalletChangePublisherTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    private WalletChangePublisher walletChangePublisher;
+    private final UUID walletId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        WalletProperties properties = new WalletProperties();
+        properties.getCache().setEnabled(true);
+        properties.getCache().setClusterInvalidation(true);
+        walletChangePublisher = new WalletChangePublisher(jdbcTemplate, properties);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+    }
+
+    @Test
+    void flush_CoalescesUpdatesPerWalletIntoOneNotifyStatement() throws Exception {
+        UUID otherWalletId = UUID.randomUUID();
+        walletChangePublisher.publish(walletId, Money.of(110), 2L);
+        walletChangePublisher.publish(walletId, Money.of(130), 4L);
+        walletChangePublisher.publish(walletId, Money.of(120), 3L);
+        walletChangePublisher.publish(otherWalletId, Money.of(5), 1L);
+
+        walletChangePublisher.flush();
+        walletChangePublisher.flush();
+
+        ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        verify(jdbcTemplate, times(1)).query(creator.capture(), any(ResultSetExtractor.class));
+        creator.getValue().createPreparedStatement(connection);
+        verify(statement).setString(1, "wallet_balance_changed");
+        verify(connection).createArrayOf(eq("text"), argThat(payloads -> payloads.length == 2
+                && Arrays.asList(payloads).contains(walletId + ",4,13000")));
+    }
+
+    @Test
+    void channelName_InvalidIdentifier_Rejected() {
+        assertThrows(IllegalArgumentException.class, () -> WalletChangePublisher.channelName("wallets; DROP TABLE wallets"));
+    }
+}
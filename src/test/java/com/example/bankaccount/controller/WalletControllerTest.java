@@ -1,31 +1,64 @@
 package com.example.bankaccount.controller;
 
+import com.example.bankaccount.engine.InMemoryWalletEngine;
+import com.example.bankaccount.exception.HoldNotFoundException;
+import com.example.bankaccount.exception.HoldNotPendingException;
 import com.example.bankaccount.exception.InsufficientFundsException;
+import com.example.bankaccount.exception.RateLimitExceededException;
+import com.example.bankaccount.exception.ServiceOverloadedException;
 import com.example.bankaccount.exception.WalletNotFoundException;
 import com.example.bankaccount.handler.GlobalExceptionHandler;
+import com.example.bankaccount.metrics.WalletMetrics;
+import com.example.bankaccount.model.Money;
+import com.example.bankaccount.model.WalletBalanceLookupResponseModel;
 import com.example.bankaccount.model.WalletBalanceResponseModel;
+import com.example.bankaccount.model.WalletHoldResponseModel;
 import com.example.bankaccount.model.WalletOperationRequestModel;
+import com.example.bankaccount.model.WalletTransactionPageResponseModel;
+import com.example.bankaccount.model.WalletTransactionResponseModel;
+import com.example.bankaccount.model.enums.ExportFormat;
+import com.example.bankaccount.model.enums.HoldStatus;
 import com.example.bankaccount.model.enums.OperationType;
+import com.example.bankaccount.ratelimit.WalletRateLimiter;
+import com.example.bankaccount.replica.ConsistencyTokenService;
+import com.example.bankaccount.replica.ReadConsistency;
+import com.example.bankaccount.service.HotWalletExecutor;
+import com.example.bankaccount.service.IdempotencyService;
+import com.example.bankaccount.service.ShardedWalletService;
+import com.example.bankaccount.service.WalletBulkService;
+import com.example.bankaccount.service.WalletExportService;
+import com.example.bankaccount.service.WalletLedgerService;
+import com.example.bankaccount.service.WalletOperationBatcher;
+import com.example.bankaccount.service.WalletOperationDispatcher;
 import com.example.bankaccount.service.WalletService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
-import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(WalletController.class)
-@Import(GlobalExceptionHandler.class)
+@Import({GlobalExceptionHandler.class, WalletOperationDispatcher.class, HotWalletExecutor.class})
 class WalletControllerTest {
 
     @Autowired
@@ -34,6 +67,36 @@ class WalletControllerTest {
     @MockitoBean
     private WalletService walletService;
 
+    @MockitoBean
+    private WalletOperationBatcher walletOperationBatcher;
+
+    @MockitoBean
+    private WalletLedgerService walletLedgerService;
+
+    @MockitoBean
+    private IdempotencyService idempotencyService;
+
+    @MockitoBean
+    private WalletBulkService walletBulkService;
+
+    @MockitoBean
+    private WalletExportService walletExportService;
+
+    @MockitoBean
+    private WalletMetrics walletMetrics;
+
+    @MockitoBean
+    private ShardedWalletService shardedWalletService;
+
+    @MockitoBean
+    private InMemoryWalletEngine inMemoryWalletEngine;
+
+    @MockitoBean
+    private WalletRateLimiter walletRateLimiter;
+
+    @MockitoBean
+    private ConsistencyTokenService consistencyTokenService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -41,7 +104,7 @@ class WalletControllerTest {
 
     @Test
     void getWalletBalance_ValidId_ReturnsOk() throws Exception {
-        WalletBalanceResponseModel response = new WalletBalanceResponseModel(testWalletId, BigDecimal.valueOf(100.00));
+        WalletBalanceResponseModel response = new WalletBalanceResponseModel(testWalletId, Money.of(100));
         when(walletService.getWalletBalance(testWalletId)).thenReturn(response);
 
         mockMvc.perform(get("/api/v1/wallet/{walletId}", testWalletId)
@@ -61,13 +124,55 @@ class WalletControllerTest {
                 .andExpect(jsonPath("$.message").exists());
     }
 
+    @Test
+    void getWalletBalances_ValidRequest_ReturnsFoundAndMissing() throws Exception {
+        UUID missingWalletId = UUID.randomUUID();
+        when(walletService.getWalletBalances(List.of(testWalletId, missingWalletId))).thenReturn(
+                new WalletBalanceLookupResponseModel(List.of(new WalletBalanceResponseModel(testWalletId, Money.of(100))),
+                        List.of(missingWalletId)));
+
+        mockMvc.perform(post("/api/v1/wallet/balances")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"walletIds\":[\"%s\",\"%s\"]}".formatted(testWalletId, missingWalletId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balances[0].walletId").value(testWalletId.toString()))
+                .andExpect(jsonPath("$.missingWalletIds[0]").value(missingWalletId.toString()));
+    }
+
+    @Test
+    void getWalletBalances_EmptyRequest_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/wallet/balances")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"walletIds\":[]}"))
+                .andExpect(status().isBadRequest());
+
+        verify(walletService, never()).getWalletBalances(any());
+    }
+
+    @Test
+    void getTransactions_WithCursor_ReturnsPage() throws Exception {
+        WalletTransactionPageResponseModel page = new WalletTransactionPageResponseModel(List.of(
+                new WalletTransactionResponseModel(41L, testWalletId, OperationType.DEPOSIT,
+                        Money.of(50), Money.of(150), Instant.now())), 41L);
+        when(walletLedgerService.getTransactions(testWalletId, 42L, 1)).thenReturn(page);
+
+        mockMvc.perform(get("/api/v1/wallet/{walletId}/transactions", testWalletId)
+                        .param("cursor", "42")
+                        .param("limit", "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transactions[0].id").value(41))
+                .andExpect(jsonPath("$.transactions[0].operationType").value("DEPOSIT"))
+                .andExpect(jsonPath("$.nextCursor").value(41));
+    }
+
     @Test
     void depositAndWithdraw_DepositOperation_ReturnsOk() throws Exception {
-        WalletBalanceResponseModel response = new WalletBalanceResponseModel(testWalletId, BigDecimal.valueOf(150.00));
+        WalletBalanceResponseModel response = new WalletBalanceResponseModel(testWalletId, Money.of(150));
         when(walletService.deposit(any())).thenReturn(response);
 
         WalletOperationRequestModel request = new WalletOperationRequestModel(
-                testWalletId, OperationType.DEPOSIT, BigDecimal.valueOf(50.00));
+                testWalletId, OperationType.DEPOSIT, Money.of(50));
 
         mockMvc.perform(post("/api/v1/wallet")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -79,11 +184,11 @@ class WalletControllerTest {
 
     @Test
     void depositAndWithdraw_WithdrawOperation_ReturnsOk() throws Exception {
-        WalletBalanceResponseModel response = new WalletBalanceResponseModel(testWalletId, BigDecimal.valueOf(50.00));
+        WalletBalanceResponseModel response = new WalletBalanceResponseModel(testWalletId, Money.of(50));
         when(walletService.withdraw(any())).thenReturn(response);
 
         WalletOperationRequestModel request = new WalletOperationRequestModel(
-                testWalletId, OperationType.WITHDRAW, BigDecimal.valueOf(50.00));
+                testWalletId, OperationType.WITHDRAW, Money.of(50));
 
         mockMvc.perform(post("/api/v1/wallet")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -93,10 +198,40 @@ class WalletControllerTest {
                 .andExpect(jsonPath("$.balance").value(50.00));
     }
 
+    @Test
+    void depositAndWithdraw_Overloaded_ReturnsServiceUnavailableWithRetryAfter() throws Exception {
+        when(walletService.deposit(any())).thenThrow(new ServiceOverloadedException("Too many pending wallet operations"));
+
+        WalletOperationRequestModel request = new WalletOperationRequestModel(
+                testWalletId, OperationType.DEPOSIT, Money.of(50));
+
+        mockMvc.perform(post("/api/v1/wallet")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
+    @Test
+    void depositAndWithdraw_ReplayedIdempotencyKey_ReturnsOriginalResponse() throws Exception {
+        WalletBalanceResponseModel original = new WalletBalanceResponseModel(testWalletId, Money.of(150));
+        WalletOperationRequestModel request = new WalletOperationRequestModel(
+                testWalletId, OperationType.DEPOSIT, Money.of(50), "payout-42");
+        when(idempotencyService.findRecent(request)).thenReturn(Optional.of(original));
+
+        mockMvc.perform(post("/api/v1/wallet")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(150.00));
+
+        verify(walletService, never()).deposit(any());
+    }
+
     @Test
     void depositAndWithdraw_InvalidOperationType_ReturnsBadRequest() throws Exception {
         WalletOperationRequestModel request = new WalletOperationRequestModel(
-                testWalletId, null, BigDecimal.valueOf(50.00));
+                testWalletId, null, Money.of(50));
 
         mockMvc.perform(post("/api/v1/wallet")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -109,7 +244,7 @@ class WalletControllerTest {
         String jsonPayload = """
             {
                 "walletId": "%s",
-                "operationType": "TRANSFER",
+                "operationType": "REFUND",
                 "amount": 50.00
             }
             """.formatted(testWalletId);
@@ -117,13 +252,14 @@ class WalletControllerTest {
         mockMvc.perform(post("/api/v1/wallet")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(jsonPayload))
-                .andExpect(status().isBadRequest());
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid operation type: REFUND. Allowed: DEPOSIT, WITHDRAW, TRANSFER"));
     }
 
     @Test
     void depositAndWithdraw_AmountNotPositive_ReturnsValidationError() throws Exception {
         WalletOperationRequestModel request = new WalletOperationRequestModel(
-                testWalletId, OperationType.DEPOSIT, BigDecimal.valueOf(-10.00));
+                testWalletId, OperationType.DEPOSIT, Money.of(-10));
 
         mockMvc.perform(post("/api/v1/wallet")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -131,12 +267,155 @@ class WalletControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void depositAndWithdraw_TransferOperation_ReturnsOk() throws Exception {
+        UUID targetWalletId = UUID.randomUUID();
+        WalletBalanceResponseModel response = new WalletBalanceResponseModel(testWalletId, Money.of(25));
+        when(walletService.transfer(any())).thenReturn(response);
+
+        WalletOperationRequestModel request = new WalletOperationRequestModel(
+                testWalletId, OperationType.TRANSFER, Money.of(75), null, targetWalletId);
+
+        mockMvc.perform(post("/api/v1/wallet")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(25.00));
+
+        verify(walletService, times(1)).transfer(argThat(r -> targetWalletId.equals(r.targetWalletId())));
+    }
+
+    @Test
+    void depositAndWithdraw_TransferWithoutTarget_ReturnsBadRequest() throws Exception {
+        WalletOperationRequestModel request = new WalletOperationRequestModel(
+                testWalletId, OperationType.TRANSFER, Money.of(75));
+
+        mockMvc.perform(post("/api/v1/wallet")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        verify(walletService, never()).transfer(any());
+    }
+
+    @Test
+    void depositAndWithdraw_WalletLocked_ReturnsConflict() throws Exception {
+        when(walletService.deposit(any())).thenThrow(new CannotAcquireLockException("could not obtain lock on row"));
+
+        WalletOperationRequestModel request = new WalletOperationRequestModel(
+                testWalletId, OperationType.DEPOSIT, Money.of(50));
+
+        mockMvc.perform(post("/api/v1/wallet")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Wallet is locked by a concurrent operation, retry later"));
+    }
+
+    @Test
+    void depositAndWithdraw_RetriesExhausted_ReturnsConflict() throws Exception {
+        when(walletService.withdraw(any())).thenThrow(new OptimisticLockingFailureException("Row was updated"));
+
+        WalletOperationRequestModel request = new WalletOperationRequestModel(
+                testWalletId, OperationType.WITHDRAW, Money.of(50));
+
+        mockMvc.perform(post("/api/v1/wallet")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Wallet was modified concurrently, retry later"));
+    }
+
+    @Test
+    void placeHold_ValidRequest_ReturnsHold() throws Exception {
+        UUID holdId = UUID.randomUUID();
+        Instant expiresAt = Instant.parse("2026-01-01T00:15:00Z");
+        when(walletService.placeHold(any())).thenReturn(new WalletHoldResponseModel(
+                holdId, testWalletId, Money.of(40), HoldStatus.PENDING, expiresAt, Money.of(100), Money.of(60)));
+
+        mockMvc.perform(post("/api/v1/wallet/holds")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"walletId\":\"" + testWalletId + "\",\"amount\":\"40.00\",\"expiresIn\":\"PT15M\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.holdId").value(holdId.toString()))
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andExpect(jsonPath("$.available").value("60.00"));
+
+        verify(walletService).placeHold(argThat(request ->
+                request.amount().equals(Money.of(40)) && Duration.ofMinutes(15).equals(request.expiresIn())));
+        verify(walletRateLimiter).acquire(testWalletId, null);
+    }
+
+    @Test
+    void placeHold_MissingAmount_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/wallet/holds")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"walletId\":\"" + testWalletId + "\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("amount: Amount is required"));
+
+        verify(walletService, never()).placeHold(any());
+    }
+
+    @Test
+    void captureHold_AlreadySettled_ReturnsConflict() throws Exception {
+        UUID holdId = UUID.randomUUID();
+        when(walletService.captureHold(holdId)).thenThrow(new HoldNotPendingException("Hold is already released"));
+
+        mockMvc.perform(post("/api/v1/wallet/holds/{holdId}/capture", holdId))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Hold is already released"));
+    }
+
+    @Test
+    void releaseHold_UnknownHold_ReturnsNotFound() throws Exception {
+        UUID holdId = UUID.randomUUID();
+        when(walletService.releaseHold(holdId)).thenThrow(new HoldNotFoundException("Hold not found"));
+
+        mockMvc.perform(post("/api/v1/wallet/holds/{holdId}/release", holdId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void depositAndWithdraw_ReplicasEnabled_ReturnsConsistencyToken() throws Exception {
+        when(walletService.deposit(any())).thenReturn(new WalletBalanceResponseModel(testWalletId, Money.of(150)));
+        when(consistencyTokenService.issueToken()).thenReturn("0/16B3748");
+
+        WalletOperationRequestModel request = new WalletOperationRequestModel(
+                testWalletId, OperationType.DEPOSIT, Money.of(50));
+
+        mockMvc.perform(post("/api/v1/wallet")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ReadConsistency.TOKEN_HEADER, "0/16B3748"));
+    }
+
+    @Test
+    void depositAndWithdraw_RateLimited_ReturnsTooManyRequestsWithRetryAfter() throws Exception {
+        doThrow(new RateLimitExceededException("Too many operations on wallet " + testWalletId + ", retry later",
+                Duration.ofMillis(1500)))
+                .when(walletRateLimiter).acquire(testWalletId, "client-1");
+
+        WalletOperationRequestModel request = new WalletOperationRequestModel(
+                testWalletId, OperationType.DEPOSIT, Money.of(50));
+
+        mockMvc.perform(post("/api/v1/wallet")
+                        .header("X-Client-Id", "client-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "2"));
+
+        verify(walletService, never()).deposit(any());
+    }
+
     @Test
     void depositAndWithdraw_InsufficientFunds_ReturnsConflict() throws Exception {
         when(walletService.withdraw(any())).thenThrow(InsufficientFundsException.class);
 
         WalletOperationRequestModel request = new WalletOperationRequestModel(
-                testWalletId, OperationType.WITHDRAW, BigDecimal.valueOf(200.00));
+                testWalletId, OperationType.WITHDRAW, Money.of(200));
 
         mockMvc.perform(post("/api/v1/wallet")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -147,11 +426,34 @@ class WalletControllerTest {
     @Test
     void depositAndWithdraw_MissingWalletId_ReturnsBadRequest() throws Exception {
         WalletOperationRequestModel request = new WalletOperationRequestModel(
-                null, OperationType.DEPOSIT, BigDecimal.valueOf(50.00));
+                null, OperationType.DEPOSIT, Money.of(50));
 
         mockMvc.perform(post("/api/v1/wallet")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isBadRequest());
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("walletId: Wallet ID is required"));
+
+        verifyNoInteractions(walletRateLimiter);
+    }
+
+    @Test
+    void bulkOperations_NdjsonBody_DelegatesToBulkService() throws Exception {
+        mockMvc.perform(post("/api/v1/wallet/bulk")
+                        .param("atomic", "true")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"walletId\":\"%s\",\"operationType\":\"DEPOSIT\",\"amount\":\"10\"}\n".formatted(testWalletId)))
+                .andExpect(status().isOk());
+
+        verify(walletBulkService, times(1)).process(any(), eq(true), any());
+    }
+
+    @Test
+    void exportWallets_Csv_StreamsFromExportService() throws Exception {
+        mockMvc.perform(get("/api/v1/wallet/export").param("format", "CSV"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"));
+
+        verify(walletExportService, times(1)).export(eq(ExportFormat.CSV), any());
     }
 }
@@ -0,0 +1,49 @@
+package com.example.bankaccount.engine;
+
+import com.example.bankaccount.model.Money;
+import com.example.bankaccount.repository.WalletSnapshot;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WalletBalanceTableTest {
+
+    @Test
+    void put_GrowsAndKeepsAllEntries() {
+        WalletBalanceTable table = new WalletBalanceTable(4);
+        List<UUID> walletIds = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            UUID walletId = UUID.randomUUID();
+            walletIds.add(walletId);
+            table.put(walletId, Money.of(i), false);
+        }
+
+        assertEquals(1_000, table.size());
+        for (int i = 0; i < walletIds.size(); i++) {
+            assertEquals(Money.of(i), table.get(walletIds.get(i)));
+        }
+        assertNull(table.get(UUID.randomUUID()));
+    }
+
+    @Test
+    void drainDirty_ReturnsChangedWalletsOnce() {
+        WalletBalanceTable table = new WalletBalanceTable(16);
+        UUID clean = UUID.randomUUID();
+        UUID changed = UUID.randomUUID();
+        table.put(clean, Money.of(1), false);
+        table.put(changed, Money.of(1), false);
+        table.put(changed, Money.of(10), true);
+
+        List<WalletSnapshot> dirty = table.drainDirty();
+
+        assertEquals(1, dirty.size());
+        assertEquals(changed, dirty.get(0).walletId());
+        assertEquals(Money.of(10), dirty.get(0).balance());
+        assertTrue(table.drainDirty().isEmpty());
+
+        table.markDirty(clean);
+        assertEquals(clean, table.drainDirty().get(0).walletId());
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.bankaccount.engine;
+
+import com.example.bankaccount.model.Money;
+import com.example.bankaccount.model.enums.OperationType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WalletWriteAheadLogTest {
+
+    private static final int SEGMENT_SIZE = WalletWriteAheadLog.RECORD_SIZE * 10;
+
+    @TempDir
+    Path directory;
+
+    private final UUID walletId = UUID.randomUUID();
+
+    @Test
+    void recover_ReplaysRecordsAfterCheckpointAcrossSegments() throws IOException {
+        writeDeposits(25);
+
+        List<WalRecord> replayed = new ArrayList<>();
+        WalletWriteAheadLog log = new WalletWriteAheadLog(directory, SEGMENT_SIZE, Duration.ZERO);
+        long lastSequence = log.recover(5, replayed::add);
+
+        assertEquals(25, lastSequence);
+        assertEquals(20, replayed.size());
+        assertEquals(6, replayed.get(0).sequence());
+        WalRecord last = replayed.get(replayed.size() - 1);
+        assertEquals(walletId, last.walletId());
+        assertEquals(OperationType.DEPOSIT, last.operationType());
+        assertEquals(Money.parse("1.50"), last.amount());
+        assertEquals(Money.parse("37.50"), last.balance());
+    }
+
+    @Test
+    void recover_StopsAtCorruptedRecord() throws IOException {
+        writeDeposits(5);
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.sorted().findFirst().orElseThrow();
+        }
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(WalletWriteAheadLog.RECORD_SIZE * 3L + 20);
+            file.write(0x7F);
+        }
+
+        List<WalRecord> replayed = new ArrayList<>();
+        long lastSequence = new WalletWriteAheadLog(directory, SEGMENT_SIZE, Duration.ZERO).recover(0, replayed::add);
+
+        assertEquals(3, lastSequence);
+        assertEquals(3, replayed.size());
+    }
+
+    @Test
+    void open_ContinuesSequenceAfterRecovery() throws IOException {
+        writeDeposits(3);
+
+        WalletWriteAheadLog log = new WalletWriteAheadLog(directory, SEGMENT_SIZE, Duration.ZERO);
+        log.recover(0, record -> { });
+        log.open();
+        long sequence = log.append(walletId, OperationType.WITHDRAW, Money.of(1), Money.of(10));
+        log.awaitDurable(sequence);
+        log.close();
+
+        assertEquals(4, sequence);
+    }
+
+    @Test
+    void truncate_RemovesOnlyFullyCheckpointedSegments() throws IOException {
+        writeDeposits(25);
+
+        WalletWriteAheadLog log = new WalletWriteAheadLog(directory, SEGMENT_SIZE, Duration.ZERO);
+        log.truncate(15);
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    private void writeDeposits(int count) throws IOException {
+        WalletWriteAheadLog log = new WalletWriteAheadLog(directory, SEGMENT_SIZE, Duration.ofNanos(100_000));
+        log.recover(0, record -> { });
+        log.open();
+        long sequence = 0;
+        for (int i = 1; i <= count; i++) {
+            sequence = log.append(walletId, OperationType.DEPOSIT, Money.parse("1.50"), Money.ofMinorUnits(150L * i));
+        }
+        log.awaitDurable(sequence);
+        log.close();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.bankaccount.handler;
+
+import com.example.bankaccount.config.WalletProperties;
+import com.example.bankaccount.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import java.time.Duration;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdmissionControlInterceptorTest {
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private AdmissionControlInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        WalletProperties properties = new WalletProperties();
+        properties.getAdmission().setEnabled(true);
+        properties.getAdmission().setMaxConcurrent(1);
+        properties.getAdmission().setMaxWaiting(0);
+        properties.getAdmission().setMaxWait(Duration.ofMillis(10));
+        interceptor = new AdmissionControlInterceptor(properties);
+    }
+
+    @Test
+    void preHandle_PermitAvailable_AdmitsAndReleasesOnCompletion() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        assertTrue(interceptor.preHandle(request, response, null));
+        assertEquals(0, interceptor.availablePermits());
+
+        interceptor.afterCompletion(request, response, null, null);
+        assertEquals(1, interceptor.availablePermits());
+    }
+
+    @Test
+    void preHandle_WaitQueueFull_RejectsImmediately() {
+        MockHttpServletRequest first = new MockHttpServletRequest();
+        interceptor.preHandle(first, response, null);
+
+        assertThrows(ServiceOverloadedException.class,
+                () -> interceptor.preHandle(new MockHttpServletRequest(), response, null));
+    }
+
+    @Test
+    void preHandle_Disabled_AlwaysAdmits() {
+        WalletProperties properties = new WalletProperties();
+        properties.getAdmission().setMaxConcurrent(0);
+        AdmissionControlInterceptor disabled = new AdmissionControlInterceptor(properties);
+
+        assertTrue(disabled.preHandle(new MockHttpServletRequest(), response, null));
+    }
+
+    @Test
+    void afterCompletion_RejectedRequest_DoesNotReleasePermit() {
+        MockHttpServletRequest first = new MockHttpServletRequest();
+        interceptor.preHandle(first, response, null);
+        MockHttpServletRequest rejected = new MockHttpServletRequest();
+        assertThrows(ServiceOverloadedException.class, () -> interceptor.preHandle(rejected, response, null));
+
+        interceptor.afterCompletion(rejected, response, null, null);
+
+        assertEquals(0, interceptor.availablePermits());
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.bankaccount.metrics;
+
+import com.example.bankaccount.config.WalletProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ContendedWalletTrackerTest {
+
+    private ContendedWalletTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        WalletProperties properties = new WalletProperties();
+        properties.getMetrics().setTrackedContendedWallets(3);
+        tracker = new ContendedWalletTracker(properties);
+    }
+
+    @Test
+    void top_OrderedByConflicts() {
+        UUID hot = UUID.randomUUID();
+        UUID warm = UUID.randomUUID();
+        for (int i = 0; i < 5; i++) {
+            tracker.recordConflict(hot);
+        }
+        tracker.recordConflict(warm);
+        tracker.recordConflict(warm);
+
+        List<ContendedWalletTracker.ContendedWallet> top = tracker.top(10);
+
+        assertEquals(2, top.size());
+        assertEquals(hot, top.get(0).walletId());
+        assertEquals(5, top.get(0).conflicts());
+        assertEquals(warm, top.get(1).walletId());
+        assertEquals(0, top.get(0).maxOverestimate());
+    }
+
+    @Test
+    void recordConflict_BoundedAndKeepsHeavyHitter() {
+        UUID hot = UUID.randomUUID();
+        for (int i = 0; i < 10; i++) {
+            tracker.recordConflict(hot);
+        }
+        for (int i = 0; i < 10; i++) {
+            tracker.recordConflict(UUID.randomUUID());
+        }
+
+        List<ContendedWalletTracker.ContendedWallet> top = tracker.top(10);
+
+        assertEquals(3, top.size());
+        assertEquals(hot, top.get(0).walletId());
+        assertEquals(10, top.get(0).conflicts());
+    }
+
+    @Test
+    void top_RespectsLimit() {
+        tracker.recordConflict(UUID.randomUUID());
+        tracker.recordConflict(UUID.randomUUID());
+
+        assertEquals(1, tracker.top(1).size());
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.bankaccount.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class DatabaseTimingPostProcessorTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    private final DatabaseTimingPostProcessor postProcessor = new DatabaseTimingPostProcessor();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeUpdate()).thenAnswer(invocation -> {
+            Thread.sleep(5);
+            return 1;
+        });
+    }
+
+    @Test
+    void postProcess_TrackedStatements_AccumulateDatabaseTime() {
+        DataSource timed = (DataSource) postProcessor.postProcessAfterInitialization(dataSource, "dataSource");
+        DatabaseTime databaseTime = new DatabaseTime();
+
+        int updated = DatabaseTime.track(databaseTime, () -> {
+            try (Connection con = timed.getConnection()) {
+                int rows = con.prepareStatement("UPDATE wallets SET balance = balance + 1").executeUpdate();
+                con.commit();
+                return rows;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertEquals(1, updated);
+        assertTrue(databaseTime.nanos() >= 5_000_000L);
+        verify(connection).commit();
+        verify(connection).close();
+        assertNull(DatabaseTime.current());
+    }
+
+    @Test
+    void postProcess_UntrackedThread_RecordsNothing() throws Exception {
+        DataSource timed = (DataSource) postProcessor.postProcessAfterInitialization(dataSource, "dataSource");
+
+        assertEquals(1, timed.getConnection().prepareStatement("SELECT 1").executeUpdate());
+        assertNull(DatabaseTime.current());
+    }
+
+    @Test
+    void postProcess_OtherBeans_LeftUnwrapped() {
+        assertSame(dataSource, postProcessor.postProcessAfterInitialization(dataSource, "primaryDataSource"));
+    }
+}
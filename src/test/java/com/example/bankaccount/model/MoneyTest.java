@@ -0,0 +1,48 @@
+package com.example.bankaccount.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import org.junit.jupiter.api.Test;
+import java.math.BigDecimal;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MoneyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void parse_FormatsWithFixedScale() {
+        assertEquals("12.50", Money.parse("12.5").toString());
+        assertEquals("-0.07", Money.parse("-0.07").toString());
+        assertEquals("100.00", Money.parse("100").toString());
+        assertEquals(Money.ofMinorUnits(1250), Money.parse("1.25e1"));
+    }
+
+    @Test
+    void of_TooManyDecimalPlaces_Rejected() {
+        assertThrows(IllegalArgumentException.class, () -> Money.parse("1.005"));
+        assertThrows(IllegalArgumentException.class, () -> Money.of(new BigDecimal("1e30")));
+        assertEquals(Money.of(1), Money.of(new BigDecimal("1.000")));
+    }
+
+    @Test
+    void arithmetic_Overflow_Throws() {
+        Money max = Money.ofMinorUnits(Long.MAX_VALUE);
+
+        assertThrows(ArithmeticException.class, () -> max.add(Money.ofMinorUnits(1)));
+        assertEquals(Money.parse("0.30"), Money.parse("0.10").add(Money.parse("0.20")));
+        assertEquals(new BigDecimal("0.30"), Money.parse("0.30").toBigDecimal());
+    }
+
+    @Test
+    void json_RoundTripsStringsAndNumbers() throws Exception {
+        UUID walletId = UUID.randomUUID();
+        String json = objectMapper.writeValueAsString(new WalletBalanceResponseModel(walletId, Money.parse("98765.4")));
+
+        assertTrue(json.contains("\"balance\":\"98765.40\""));
+        assertEquals(Money.parse("98765.40"), objectMapper.readValue(json, WalletBalanceResponseModel.class).balance());
+        assertEquals(Money.parse("10.5"), objectMapper.readValue("10.5", Money.class));
+        assertThrows(InvalidFormatException.class, () -> objectMapper.readValue("\"10.555\"", Money.class));
+    }
+}
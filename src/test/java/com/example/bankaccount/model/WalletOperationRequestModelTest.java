@@ -0,0 +1,66 @@
+package com.example.bankaccount.model;
+
+import com.example.bankaccount.exception.InvalidOperationException;
+import com.example.bankaccount.model.enums.OperationType;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import org.junit.jupiter.api.Test;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WalletOperationRequestModelTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final UUID walletId = UUID.randomUUID();
+
+    @Test
+    void deserialize_AllFields_DecodesCaseInsensitiveOperation() throws Exception {
+        UUID targetWalletId = UUID.randomUUID();
+
+        WalletOperationRequestModel request = objectMapper.readValue("""
+                {"walletId":"%s","operationType":"transfer","amount":12.5,
+                 "idempotencyKey":"key-1","targetWalletId":"%s","note":{"ignored":[1,2]}}
+                """.formatted(walletId, targetWalletId), WalletOperationRequestModel.class);
+
+        assertEquals(new WalletOperationRequestModel(walletId, OperationType.TRANSFER, Money.parse("12.50"),
+                "key-1", targetWalletId), request);
+    }
+
+    @Test
+    void deserialize_NullAndMissingFields_LeftNull() throws Exception {
+        WalletOperationRequestModel request = objectMapper.readValue("""
+                {"walletId":null,"amount":"1"}
+                """, WalletOperationRequestModel.class);
+
+        assertNull(request.walletId());
+        assertNull(request.operationType());
+        assertEquals(Money.of(1), request.amount());
+    }
+
+    @Test
+    void deserialize_UnknownOperationType_ThrowsStacklessDomainException() {
+        InvalidOperationException ex = assertThrows(InvalidOperationException.class, () -> objectMapper.readValue("""
+                {"walletId":"%s","operationType":"REFUND","amount":"1"}
+                """.formatted(walletId), WalletOperationRequestModel.class));
+
+        assertEquals("Invalid operation type: REFUND. Allowed: DEPOSIT, WITHDRAW, TRANSFER", ex.getMessage());
+        assertEquals(0, ex.getStackTrace().length);
+    }
+
+    @Test
+    void deserialize_MalformedWalletId_Rejected() {
+        assertThrows(InvalidFormatException.class, () -> objectMapper.readValue("""
+                {"walletId":"1-1-1-1-1"}
+                """, WalletOperationRequestModel.class));
+    }
+
+    @Test
+    void deserialize_UnknownPropertyWhenStrict_Rejected() {
+        assertThrows(UnrecognizedPropertyException.class, () -> new ObjectMapper().readValue("""
+                {"walletId":"%s","unexpected":true}
+                """.formatted(walletId), WalletOperationRequestModel.class));
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.bankaccount.model.validation;
+
+import com.example.bankaccount.exception.InvalidOperationException;
+import com.example.bankaccount.model.Money;
+import com.example.bankaccount.model.WalletOperationRequestModel;
+import com.example.bankaccount.model.enums.OperationType;
+import org.junit.jupiter.api.Test;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WalletOperationRequestValidatorTest {
+
+    private final UUID walletId = UUID.randomUUID();
+
+    @Test
+    void firstViolation_ValidRequest_ReturnsNull() {
+        assertNull(WalletOperationRequestValidator.firstViolation(
+                new WalletOperationRequestModel(walletId, OperationType.DEPOSIT, Money.of(1))));
+        assertNull(WalletOperationRequestValidator.firstViolation(new WalletOperationRequestModel(
+                walletId, OperationType.TRANSFER, Money.of(1), null, UUID.randomUUID())));
+    }
+
+    @Test
+    void firstViolation_MatchesConstraintMessages() {
+        assertEquals("walletId: Wallet ID is required", WalletOperationRequestValidator.firstViolation(
+                new WalletOperationRequestModel(null, OperationType.DEPOSIT, Money.of(1))));
+        assertEquals("operationType: Operation type is required", WalletOperationRequestValidator.firstViolation(
+                new WalletOperationRequestModel(walletId, null, Money.of(1))));
+        assertEquals("amount: Amount is required", WalletOperationRequestValidator.firstViolation(
+                new WalletOperationRequestModel(walletId, OperationType.DEPOSIT, null)));
+        assertEquals("amount: Amount must be positive", WalletOperationRequestValidator.firstViolation(
+                new WalletOperationRequestModel(walletId, OperationType.DEPOSIT, Money.ZERO)));
+        assertEquals("idempotencyKey: Idempotency key must be at most 128 characters",
+                WalletOperationRequestValidator.firstViolation(new WalletOperationRequestModel(
+                        walletId, OperationType.DEPOSIT, Money.of(1), "k".repeat(129))));
+        assertEquals("transferTargetValid: Target wallet ID is required for transfers and must differ from the source wallet",
+                WalletOperationRequestValidator.firstViolation(new WalletOperationRequestModel(
+                        walletId, OperationType.TRANSFER, Money.of(1), null, walletId)));
+    }
+
+    @Test
+    void validate_Violation_ThrowsInvalidOperation() {
+        InvalidOperationException ex = assertThrows(InvalidOperationException.class,
+                () -> WalletOperationRequestValidator.validate(
+                        new WalletOperationRequestModel(walletId, OperationType.WITHDRAW, Money.of(-5))));
+
+        assertEquals("amount: Amount must be positive", ex.getMessage());
+    }
+}
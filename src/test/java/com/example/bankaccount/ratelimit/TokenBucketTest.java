@@ -0,0 +1,35 @@
+package com.example.bankaccount.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void tryAcquire_AllowsBurstThenReportsWaitUntilNextToken() {
+        TokenBucket bucket = new TokenBucket(10, 3, 0);
+
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(SECOND / 10, bucket.tryAcquire(0));
+        assertEquals(SECOND / 20, bucket.tryAcquire(SECOND / 20));
+    }
+
+    @Test
+    void tryAcquire_RefillsAtConfiguredRateUpToBurst() {
+        TokenBucket bucket = new TokenBucket(10, 2, 0);
+        bucket.tryAcquire(0);
+        bucket.tryAcquire(0);
+
+        assertEquals(0, bucket.tryAcquire(SECOND / 10));
+        assertTrue(bucket.tryAcquire(SECOND / 10) > 0);
+
+        long idle = 10 * SECOND;
+        assertEquals(0, bucket.tryAcquire(idle));
+        assertEquals(0, bucket.tryAcquire(idle));
+        assertTrue(bucket.tryAcquire(idle) > 0);
+    }
+}
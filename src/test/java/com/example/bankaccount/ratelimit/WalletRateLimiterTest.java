@@ -0,0 +1,86 @@
+package com.example.bankaccount.ratelimit;
+
+import com.example.bankaccount.config.WalletProperties;
+import com.example.bankaccount.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.Map;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WalletRateLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UUID walletId = UUID.randomUUID();
+    private WalletProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new WalletProperties();
+        properties.getRateLimit().setEnabled(true);
+        properties.getRateLimit().getDefaultTier().setPermitsPerSecond(0.001);
+        properties.getRateLimit().getDefaultTier().setBurst(2);
+    }
+
+    @Test
+    void acquire_BurstExhausted_RejectsWithRetryAfterAndCountsRejection() {
+        WalletRateLimiter limiter = new WalletRateLimiter(properties, meterRegistry);
+
+        limiter.acquire(walletId, null);
+        limiter.acquire(walletId, null);
+        RateLimitExceededException ex = assertThrows(RateLimitExceededException.class,
+                () -> limiter.acquire(walletId, null));
+
+        assertTrue(ex.getRetryAfter().toSeconds() > 0);
+        assertEquals(1, meterRegistry.get("wallet.ratelimit.rejections")
+                .tag("tier", WalletRateLimiter.DEFAULT_TIER).counter().count());
+        limiter.acquire(UUID.randomUUID(), null);
+    }
+
+    @Test
+    void acquire_PerClient_KeepsSeparateBucketsPerClient() {
+        properties.getRateLimit().setPerClient(true);
+        properties.getRateLimit().getDefaultTier().setBurst(1);
+        WalletRateLimiter limiter = new WalletRateLimiter(properties, meterRegistry);
+
+        limiter.acquire(walletId, "client-a");
+        limiter.acquire(walletId, "client-b");
+
+        assertThrows(RateLimitExceededException.class, () -> limiter.acquire(walletId, "client-a"));
+    }
+
+    @Test
+    void acquire_WalletTier_UsesTierLimits() {
+        WalletProperties.RateLimit.Tier premium = new WalletProperties.RateLimit.Tier();
+        premium.setPermitsPerSecond(0.001);
+        premium.setBurst(5);
+        properties.getRateLimit().setTiers(Map.of("premium", premium));
+        properties.getRateLimit().setWalletTiers(Map.of(walletId, "premium"));
+        WalletRateLimiter limiter = new WalletRateLimiter(properties, meterRegistry);
+
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire(walletId, null);
+        }
+
+        assertThrows(RateLimitExceededException.class, () -> limiter.acquire(walletId, null));
+        assertEquals(1, meterRegistry.get("wallet.ratelimit.rejections").tag("tier", "premium").counter().count());
+    }
+
+    @Test
+    void constructor_UnknownWalletTier_Fails() {
+        properties.getRateLimit().setWalletTiers(Map.of(walletId, "missing"));
+
+        assertThrows(IllegalStateException.class, () -> new WalletRateLimiter(properties, meterRegistry));
+    }
+
+    @Test
+    void acquire_Disabled_NeverRejects() {
+        properties.getRateLimit().setEnabled(false);
+        WalletRateLimiter limiter = new WalletRateLimiter(properties, meterRegistry);
+
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire(walletId, null);
+        }
+    }
+}
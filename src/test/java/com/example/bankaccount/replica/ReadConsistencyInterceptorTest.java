@@ -0,0 +1,47 @@
+package com.example.bankaccount.replica;
+
+import com.example.bankaccount.config.WalletProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadConsistencyInterceptorTest {
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @AfterEach
+    void tearDown() {
+        ReadConsistency.clear();
+    }
+
+    @Test
+    void preHandle_TokenHeader_RequiresPositionUntilCompletion() {
+        ReadConsistencyInterceptor interceptor = interceptor(true);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(ReadConsistency.TOKEN_HEADER, "0/16B3748");
+
+        assertTrue(interceptor.preHandle(request, response, null));
+        assertTrue(ReadConsistency.isRequired());
+        assertEquals(0x16B3748L, ReadConsistency.minimumLsn());
+
+        interceptor.afterCompletion(request, response, null, null);
+        assertFalse(ReadConsistency.isRequired());
+    }
+
+    @Test
+    void preHandle_ReplicasDisabled_IgnoresToken() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(ReadConsistency.TOKEN_HEADER, "0/16B3748");
+
+        assertTrue(interceptor(false).preHandle(request, response, null));
+        assertFalse(ReadConsistency.isRequired());
+    }
+
+    private static ReadConsistencyInterceptor interceptor(boolean enabled) {
+        WalletProperties properties = new WalletProperties();
+        properties.getReplicas().setEnabled(enabled);
+        return new ReadConsistencyInterceptor(properties);
+    }
+}
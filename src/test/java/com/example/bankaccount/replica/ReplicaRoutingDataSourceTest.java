@@ -0,0 +1,125 @@
+package com.example.bankaccount.replica;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private ReplicaRoutingDataSource routing;
+
+    @AfterEach
+    void tearDown() {
+        ReadConsistency.clear();
+        if (routing != null) {
+            routing.destroy();
+        }
+    }
+
+    @Test
+    void determineCurrentLookupKey_NoToken_RoundRobinsOverReplicas() throws SQLException {
+        routing = routing(replica("0/3000"), replica("0/2000"));
+
+        Set<Object> keys = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            keys.add(routing.determineCurrentLookupKey());
+        }
+
+        assertEquals(Set.of(0, 1), keys);
+    }
+
+    @Test
+    void determineCurrentLookupKey_TokenAheadOfOneReplica_SkipsLaggingReplica() throws SQLException {
+        routing = routing(replica("0/3000"), replica("0/2000"));
+        ReadConsistency.require("0/2800");
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(0, routing.determineCurrentLookupKey());
+        }
+    }
+
+    @Test
+    void determineCurrentLookupKey_TokenAheadOfAllReplicas_FallsBackToPrimary() throws SQLException {
+        routing = routing(replica("0/3000"), replica("0/2000"));
+        ReadConsistency.require("1/0");
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void determineCurrentLookupKey_ReplicaUnreachable_FallsBackToPrimary() throws SQLException {
+        DataSource down = mock(DataSource.class);
+        when(down.getConnection()).thenThrow(new SQLException("connection refused"));
+        routing = routing(down);
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void pollReplayPositions_ReplicaCatchesUp_ServesTokenFromReplica() throws SQLException {
+        DataSource replica = mock(DataSource.class);
+        ResultSet resultSet = stubReplayPosition(replica);
+        when(resultSet.getString(1)).thenReturn("0/1000", "0/4000");
+        routing = routing(replica);
+        ReadConsistency.require("0/4000");
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+
+        routing.pollReplayPositions();
+
+        assertEquals(0, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void require_MalformedToken_FallsBackToPrimary() throws SQLException {
+        routing = routing(replica("FF/FFFFFFFF"));
+        ReadConsistency.require("not-a-token");
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void parseLsn_ComparesHighWordFirst() {
+        assertEquals(0x1_0000_0000L, ReadConsistency.parseLsn("1/0"));
+        assertEquals(0x16_B374_D848L, ReadConsistency.parseLsn("16/B374D848"));
+        assertTrue(ReadConsistency.parseLsn("1/0") > ReadConsistency.parseLsn("0/FFFFFFFF"));
+        assertEquals(Long.MAX_VALUE, ReadConsistency.parseLsn("/10"));
+        assertEquals(Long.MAX_VALUE, ReadConsistency.parseLsn("1/100000000"));
+    }
+
+    private ReplicaRoutingDataSource routing(DataSource... replicas) {
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, List.of(replicas),
+                Duration.ofHours(1), new SimpleMeterRegistry());
+        dataSource.afterPropertiesSet();
+        return dataSource;
+    }
+
+    private static DataSource replica(String replayedLsn) throws SQLException {
+        DataSource replica = mock(DataSource.class);
+        when(stubReplayPosition(replica).getString(1)).thenReturn(replayedLsn);
+        return replica;
+    }
+
+    private static ResultSet stubReplayPosition(DataSource replica) throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(replica.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        return resultSet;
+    }
+}
@@ -1,13 +1,19 @@
 package com.example.bankaccount.repository;
 
 import com.example.bankaccount.entity.Wallet;
+import com.example.bankaccount.model.Money;
+import com.example.bankaccount.model.enums.HoldStatus;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
-import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest
@@ -23,40 +29,210 @@ public class WalletRepositoryTest {
     void shouldReturnWallet_WhenIdExists() {
         Wallet wallet = new Wallet();
         wallet.setWalletId(walletId);
-        wallet.setBalance(BigDecimal.valueOf(1000));
+        wallet.setBalance(Money.of(1000));
 
         walletRepository.save(wallet);
 
         assertTrue(walletRepository.findById(walletId).isPresent());
         Wallet retrieved = walletRepository.findById(walletId).get();
-        assertEquals(BigDecimal.valueOf(1000), retrieved.getBalance());
+        assertEquals(Money.of(1000), retrieved.getBalance());
     }
 
     @Test
     void shouldUpdateBalanceAfterDeposit() {
         Wallet wallet = new Wallet();
         wallet.setWalletId(walletId);
-        wallet.setBalance(BigDecimal.valueOf(1000));
+        wallet.setBalance(Money.of(1000));
         walletRepository.save(wallet);
 
         Wallet retrieved = walletRepository.findById(walletId).orElseThrow();
-        retrieved.setBalance(retrieved.getBalance().add(BigDecimal.valueOf(500)));
+        retrieved.setBalance(retrieved.getBalance().add(Money.of(500)));
         retrieved = walletRepository.save(retrieved);
 
-        assertEquals(BigDecimal.valueOf(1500), retrieved.getBalance());
+        assertEquals(Money.of(1500), retrieved.getBalance());
     }
 
     @Test
     void shouldUpdateBalanceAfterWithdraw() {
         Wallet wallet = new Wallet();
         wallet.setWalletId(walletId);
-        wallet.setBalance(BigDecimal.valueOf(1000));
+        wallet.setBalance(Money.of(1000));
         walletRepository.save(wallet);
 
         Wallet retrieved = walletRepository.findById(walletId).orElseThrow();
-        retrieved.setBalance(retrieved.getBalance().subtract(BigDecimal.valueOf(500)));
+        retrieved.setBalance(retrieved.getBalance().subtract(Money.of(500)));
         retrieved = walletRepository.save(retrieved);
 
-        assertEquals(BigDecimal.valueOf(500), retrieved.getBalance());
+        assertEquals(Money.of(500), retrieved.getBalance());
+    }
+
+    @Test
+    void shouldDepositAtomically() {
+        Wallet wallet = new Wallet();
+        wallet.setWalletId(walletId);
+        wallet.setBalance(Money.of(1000));
+        walletRepository.saveAndFlush(wallet);
+
+        WalletSnapshot updated = walletRepository.depositAtomically(walletId, Money.of(500)).orElseThrow();
+
+        assertEquals(Money.of(1500), updated.balance());
+        assertTrue(walletRepository.depositAtomically(UUID.randomUUID(), Money.of(1)).isEmpty());
+    }
+
+    @Test
+    void shouldDistinguishInsufficientFundsFromMissingWallet_WhenWithdrawingAtomically() {
+        Wallet wallet = new Wallet();
+        wallet.setWalletId(walletId);
+        wallet.setBalance(Money.of(1000));
+        walletRepository.saveAndFlush(wallet);
+
+        AtomicWithdrawResult withdrawn = walletRepository.withdrawAtomically(walletId, Money.of(400));
+        AtomicWithdrawResult insufficient = walletRepository.withdrawAtomically(walletId, Money.of(700));
+        AtomicWithdrawResult missing = walletRepository.withdrawAtomically(UUID.randomUUID(), Money.of(1));
+
+        assertEquals(Money.of(600), withdrawn.wallet().balance());
+        assertTrue(insufficient.walletFound());
+        assertNull(insufficient.wallet());
+        assertFalse(missing.walletFound());
+    }
+
+    @Test
+    void shouldSumBaseAndShardBalances() {
+        Wallet wallet = new Wallet();
+        wallet.setWalletId(walletId);
+        wallet.setBalance(Money.of(100));
+        walletRepository.saveAndFlush(wallet);
+
+        assertTrue(walletRepository.depositToShard(walletId, 0, Money.of(50)));
+        assertTrue(walletRepository.depositToShard(walletId, 0, Money.of(25)));
+        assertTrue(walletRepository.depositToShard(walletId, 3, Money.of(10)));
+        assertFalse(walletRepository.depositToShard(UUID.randomUUID(), 0, Money.of(1)));
+
+        assertEquals(Money.of(185), walletRepository.sumShardedBalance(walletId).orElseThrow());
+    }
+
+    @Test
+    void shouldOnlyWithdrawFromShardWithEnoughFunds() {
+        Wallet wallet = new Wallet();
+        wallet.setWalletId(walletId);
+        wallet.setBalance(Money.ZERO);
+        walletRepository.saveAndFlush(wallet);
+        walletRepository.depositToShard(walletId, 0, Money.of(30));
+        walletRepository.depositToShard(walletId, 1, Money.of(30));
+
+        assertTrue(walletRepository.withdrawFromAnyShard(walletId, Money.of(30)));
+        assertFalse(walletRepository.withdrawFromAnyShard(walletId, Money.of(40)));
+
+        walletRepository.lockBaseBalance(walletId).orElseThrow();
+        walletRepository.replaceShardBalances(walletId, Money.ZERO, walletRepository.lockShardBalances(walletId),
+                List.of(Money.of(10), Money.of(10)));
+
+        assertEquals(List.of(new WalletShardBalance(0, Money.of(10)), new WalletShardBalance(1, Money.of(10))),
+                walletRepository.lockShardBalances(walletId));
+    }
+
+    @Test
+    void shouldKeepUnlockedShardsAndDropLockedShardsPastCountOnRebalance() {
+        Wallet wallet = new Wallet();
+        wallet.setWalletId(walletId);
+        wallet.setBalance(Money.ZERO);
+        walletRepository.saveAndFlush(wallet);
+        walletRepository.depositToShard(walletId, 0, Money.of(10));
+        walletRepository.depositToShard(walletId, 5, Money.of(20));
+
+        walletRepository.lockBaseBalance(walletId).orElseThrow();
+        List<WalletShardBalance> locked = walletRepository.lockShardBalances(walletId);
+        walletRepository.depositToShard(walletId, 1, Money.of(7));
+        walletRepository.replaceShardBalances(walletId, Money.ZERO, locked, List.of(Money.of(15), Money.of(15)));
+
+        assertEquals(List.of(new WalletShardBalance(0, Money.of(15)), new WalletShardBalance(1, Money.of(22))),
+                walletRepository.lockShardBalances(walletId));
+        assertEquals(Money.of(37), walletRepository.sumShardedBalance(walletId).orElseThrow());
+    }
+
+    @Test
+    void shouldExportWalletsWithShardedBalances() {
+        Wallet wallet = new Wallet();
+        wallet.setWalletId(walletId);
+        wallet.setBalance(Money.of(100));
+        walletRepository.saveAndFlush(wallet);
+        walletRepository.depositToShard(walletId, 1, Money.of(35));
+
+        List<WalletSnapshot> exported = new ArrayList<>();
+        walletRepository.exportWallets(exported::add);
+
+        assertEquals(Money.of(135), exported.stream()
+                .filter(snapshot -> snapshot.walletId().equals(walletId))
+                .findFirst().orElseThrow().balance());
+    }
+
+    @Test
+    void shouldFindBalancesForExistingWalletsOnly() {
+        Wallet wallet = new Wallet();
+        wallet.setWalletId(walletId);
+        wallet.setBalance(Money.of(100));
+        walletRepository.saveAndFlush(wallet);
+        walletRepository.depositToShard(walletId, 2, Money.of(5));
+
+        List<WalletSnapshot> found = walletRepository.findBalances(List.of(walletId, UUID.randomUUID()));
+
+        assertEquals(1, found.size());
+        assertEquals(Money.of(105), found.get(0).balance());
+    }
+
+    @Test
+    void shouldReserveOnlyAvailableFunds_WhenPlacingHolds() {
+        Wallet wallet = new Wallet();
+        wallet.setWalletId(walletId);
+        wallet.setBalance(Money.of(100));
+        walletRepository.saveAndFlush(wallet);
+        Instant expiresAt = Instant.now().plusSeconds(60);
+
+        WalletFunds held = walletRepository.placeHold(UUID.randomUUID(), walletId, Money.of(70), expiresAt).orElseThrow();
+
+        assertEquals(Money.of(70), held.held());
+        assertEquals(Money.of(30), held.available());
+        assertTrue(walletRepository.placeHold(UUID.randomUUID(), walletId, Money.of(40), expiresAt).isEmpty());
+        assertNull(walletRepository.withdrawAtomically(walletId, Money.of(40)).wallet());
+    }
+
+    @Test
+    void shouldSettleHoldOnce_WhenCapturing() {
+        Wallet wallet = new Wallet();
+        wallet.setWalletId(walletId);
+        wallet.setBalance(Money.of(100));
+        walletRepository.saveAndFlush(wallet);
+        UUID holdId = UUID.randomUUID();
+        walletRepository.placeHold(holdId, walletId, Money.of(70), Instant.now().plusSeconds(60)).orElseThrow();
+
+        HoldSettlement captured = walletRepository.captureHold(holdId).orElseThrow();
+
+        assertEquals(Money.of(30), captured.wallet().balance());
+        assertEquals(Money.ZERO, captured.wallet().held());
+        assertEquals(Money.of(70), captured.amount());
+        assertTrue(walletRepository.captureHold(holdId).isEmpty());
+        assertTrue(walletRepository.releaseHold(holdId).isEmpty());
+        assertEquals(HoldStatus.CAPTURED, walletRepository.findHold(holdId).orElseThrow().status());
+    }
+
+    @Test
+    void shouldReturnExpiredHoldsToWallets_InBoundedChunks() {
+        Wallet wallet = new Wallet();
+        wallet.setWalletId(walletId);
+        wallet.setBalance(Money.of(100));
+        walletRepository.saveAndFlush(wallet);
+        Instant expired = Instant.now().minusSeconds(60);
+        UUID first = UUID.randomUUID();
+        walletRepository.placeHold(first, walletId, Money.of(10), expired).orElseThrow();
+        walletRepository.placeHold(UUID.randomUUID(), walletId, Money.of(20), expired).orElseThrow();
+        walletRepository.placeHold(UUID.randomUUID(), walletId, Money.of(30), Instant.now().plusSeconds(60)).orElseThrow();
+
+        assertEquals(1, walletRepository.expireHolds(1));
+        assertEquals(1, walletRepository.expireHolds(10));
+        assertEquals(0, walletRepository.expireHolds(10));
+
+        assertEquals(Money.of(30), walletRepository.lockAllByIdOrdered(List.of(walletId)).get(0).held());
+        assertTrue(walletRepository.captureHold(first).isEmpty());
+        assertEquals(HoldStatus.EXPIRED, walletRepository.findHold(first).orElseThrow().status());
     }
 }
@@ -0,0 +1,31 @@
+package com.example.bankaccount.retry;
+
+import com.example.bankaccount.config.WalletProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RetryBudgetTest {
+
+    @Test
+    void tryAcquire_RefilledBySuccessesUpToCapacity() {
+        WalletProperties properties = new WalletProperties();
+        properties.getRetry().setBudgetCapacity(2);
+        properties.getRetry().setBudgetRatio(0.5);
+        RetryBudget budget = new RetryBudget(properties, new SimpleMeterRegistry());
+
+        assertTrue(budget.tryAcquire());
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+
+        budget.recordSuccess();
+        assertFalse(budget.tryAcquire());
+        budget.recordSuccess();
+        assertTrue(budget.tryAcquire());
+
+        for (int i = 0; i < 10; i++) {
+            budget.recordSuccess();
+        }
+        assertEquals(2, budget.available());
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.bankaccount.retry;
+
+import com.example.bankaccount.config.WalletProperties;
+import com.example.bankaccount.exception.InsufficientFundsException;
+import com.example.bankaccount.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WalletRetryConfigTest {
+
+    private WalletProperties properties;
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        properties = new WalletProperties();
+        properties.getRetry().setInitialBackoff(Duration.ofMillis(1));
+        properties.getRetry().setMaxBackoff(Duration.ofMillis(2));
+    }
+
+    @Test
+    void conflict_RetriesUntilAttemptsExhausted() {
+        Supplier<String> operation = retrying(() -> {
+            calls.incrementAndGet();
+            throw new OptimisticLockingFailureException("conflict");
+        });
+
+        assertThrows(OptimisticLockingFailureException.class, operation::get);
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void conflict_SucceedsOnRetry() {
+        Supplier<String> operation = retrying(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new OptimisticLockingFailureException("conflict");
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", operation.get());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void conflict_EmptyBudget_RejectsWithoutRetrying() {
+        properties.getRetry().setBudgetCapacity(0);
+        Supplier<String> operation = retrying(() -> {
+            calls.incrementAndGet();
+            throw new OptimisticLockingFailureException("conflict");
+        });
+
+        assertThrows(ServiceOverloadedException.class, operation::get);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void nonRetryableError_PropagatesUnchanged() {
+        Supplier<String> operation = retrying(() -> {
+            calls.incrementAndGet();
+            throw new InsufficientFundsException("Insufficient funds");
+        });
+
+        assertThrows(InsufficientFundsException.class, operation::get);
+        assertEquals(1, calls.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Supplier<String> retrying(Supplier<String> target) {
+        RetryBudget budget = new RetryBudget(properties, new SimpleMeterRegistry());
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.addInterface(Supplier.class);
+        factory.addAdvice(new WalletRetryConfig().walletRetryInterceptor(properties, budget, List.of(budget)));
+        return (Supplier<String>) factory.getProxy();
+    }
+}
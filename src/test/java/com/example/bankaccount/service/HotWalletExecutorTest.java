@@ -0,0 +1,146 @@
+package com.example.bankaccount.service;
+
+import com.example.bankaccount.config.WalletProperties;
+import com.example.bankaccount.exception.InsufficientFundsException;
+import com.example.bankaccount.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HotWalletExecutorTest {
+
+    private final UUID hotWalletId = UUID.randomUUID();
+    private HotWalletExecutor hotWalletExecutor;
+
+    @BeforeEach
+    void setUp() {
+        WalletProperties properties = new WalletProperties();
+        properties.getHot().setEnabled(true);
+        properties.getHot().setWalletIds(Set.of(hotWalletId));
+        properties.getHot().setLanes(2);
+        hotWalletExecutor = new HotWalletExecutor(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hotWalletExecutor.destroy();
+    }
+
+    @Test
+    void isHot_OnlyConfiguredWallets() {
+        assertTrue(hotWalletExecutor.isHot(hotWalletId));
+        assertFalse(hotWalletExecutor.isHot(UUID.randomUUID()));
+        assertFalse(hotWalletExecutor.isHot(null));
+    }
+
+    @Test
+    void isHot_DisabledMode_ReturnsFalse() {
+        WalletProperties properties = new WalletProperties();
+        properties.getHot().setWalletIds(Set.of(hotWalletId));
+
+        assertFalse(new HotWalletExecutor(properties).isHot(hotWalletId));
+    }
+
+    @Test
+    void execute_ConcurrentCallers_AppliesOperationsSequentially() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        for (int i = 0; i < 200; i++) {
+            results.add(callers.submit(() -> hotWalletExecutor.execute(hotWalletId, () -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                inFlight.decrementAndGet();
+                return 1;
+            })));
+        }
+        for (Future<Integer> result : results) {
+            assertEquals(1, result.get());
+        }
+        callers.shutdown();
+
+        assertEquals(1, maxInFlight.get());
+    }
+
+    @Test
+    void execute_OperationFails_RethrowsOriginalException() {
+        assertThrows(InsufficientFundsException.class, () ->
+                hotWalletExecutor.execute(hotWalletId, () -> {
+                    throw new InsufficientFundsException("Insufficient funds");
+                }));
+    }
+
+    @Test
+    void execute_RunningOperationOutlivesTimeout_ReturnsItsResult() {
+        hotWalletExecutor = withTimeout(Duration.ofMillis(50));
+        AtomicInteger applied = new AtomicInteger();
+
+        int result = hotWalletExecutor.execute(hotWalletId, () -> {
+            sleep(200);
+            return applied.incrementAndGet();
+        });
+
+        assertEquals(1, result);
+        assertEquals(1, applied.get());
+    }
+
+    @Test
+    void execute_QueuedOperationTimesOut_ThrowsAndNeverRuns() throws Exception {
+        hotWalletExecutor = withTimeout(Duration.ofMillis(50));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch blocking = new CountDownLatch(1);
+        AtomicInteger applied = new AtomicInteger();
+        ExecutorService callers = Executors.newSingleThreadExecutor();
+        Future<Integer> running = callers.submit(() -> hotWalletExecutor.execute(hotWalletId, () -> {
+            started.countDown();
+            await(blocking);
+            return 0;
+        }));
+        await(started);
+
+        assertThrows(ServiceOverloadedException.class, () ->
+                hotWalletExecutor.execute(hotWalletId, applied::incrementAndGet));
+        blocking.countDown();
+
+        assertEquals(0, running.get());
+        assertEquals(0, hotWalletExecutor.execute(hotWalletId, applied::get));
+        callers.shutdown();
+    }
+
+    private HotWalletExecutor withTimeout(Duration timeout) {
+        hotWalletExecutor.destroy();
+        WalletProperties properties = new WalletProperties();
+        properties.getHot().setEnabled(true);
+        properties.getHot().setWalletIds(Set.of(hotWalletId));
+        properties.getHot().setTimeout(timeout);
+        return new HotWalletExecutor(properties);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.bankaccount.service;
+
+import com.example.bankaccount.config.WalletProperties;
+import com.example.bankaccount.entity.WalletIdempotencyKey;
+import com.example.bankaccount.exception.InvalidOperationException;
+import com.example.bankaccount.model.Money;
+import com.example.bankaccount.model.WalletBalanceResponseModel;
+import com.example.bankaccount.model.WalletOperationRequestModel;
+import com.example.bankaccount.model.enums.OperationType;
+import com.example.bankaccount.repository.WalletIdempotencyKeyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import java.util.Optional;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class IdempotencyServiceTest {
+
+    @Mock
+    private WalletIdempotencyKeyRepository idempotencyKeyRepository;
+
+    private IdempotencyService idempotencyService;
+    private UUID walletId;
+    private WalletOperationRequestModel request;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        idempotencyService = new IdempotencyService(idempotencyKeyRepository, new WalletProperties());
+        walletId = UUID.randomUUID();
+        request = new WalletOperationRequestModel(walletId, OperationType.WITHDRAW, Money.of(50), "key-1");
+    }
+
+    @Test
+    void reserve_FirstRequest_ReturnsEmpty() {
+        when(idempotencyKeyRepository.insertIfAbsent("key-1", walletId, "WITHDRAW", Money.of(50).toBigDecimal(), null)).thenReturn(1);
+
+        assertTrue(idempotencyService.reserve(request).isEmpty());
+        verify(idempotencyKeyRepository, never()).findById(any());
+    }
+
+    @Test
+    void reserve_ReplayedKey_ReturnsStoredResponse() {
+        when(idempotencyKeyRepository.insertIfAbsent(any(), any(), any(), any(), any())).thenReturn(0);
+        when(idempotencyKeyRepository.findById("key-1")).thenReturn(Optional.of(
+                new WalletIdempotencyKey("key-1", walletId, OperationType.WITHDRAW, Money.of(50), null, Money.of(150), null)));
+
+        Optional<WalletBalanceResponseModel> result = idempotencyService.reserve(request);
+
+        assertEquals(Optional.of(new WalletBalanceResponseModel(walletId, Money.of(150))), result);
+        assertEquals(result, idempotencyService.findRecent(request));
+    }
+
+    @Test
+    void reserve_KeyUsedForAnotherAmount_ThrowsException() {
+        when(idempotencyKeyRepository.insertIfAbsent(any(), any(), any(), any(), any())).thenReturn(0);
+        when(idempotencyKeyRepository.findById("key-1")).thenReturn(Optional.of(
+                new WalletIdempotencyKey("key-1", walletId, OperationType.WITHDRAW, Money.of(70), null, Money.of(130), null)));
+
+        assertThrows(InvalidOperationException.class, () -> idempotencyService.reserve(request));
+    }
+
+    @Test
+    void reserve_KeyUsedForAnotherOperation_ThrowsException() {
+        when(idempotencyKeyRepository.insertIfAbsent(any(), any(), any(), any(), any())).thenReturn(0);
+        when(idempotencyKeyRepository.findById("key-1")).thenReturn(Optional.of(
+                new WalletIdempotencyKey("key-1", walletId, OperationType.DEPOSIT, Money.of(50), null, Money.of(250), null)));
+
+        assertThrows(InvalidOperationException.class, () -> idempotencyService.reserve(request));
+    }
+
+    @Test
+    void reserve_KeyUsedForAnotherWallet_ThrowsException() {
+        when(idempotencyKeyRepository.insertIfAbsent(any(), any(), any(), any(), any())).thenReturn(0);
+        when(idempotencyKeyRepository.findById("key-1")).thenReturn(Optional.of(
+                new WalletIdempotencyKey("key-1", UUID.randomUUID(), OperationType.WITHDRAW, Money.of(50), null, Money.of(10), null)));
+
+        assertThrows(InvalidOperationException.class, () -> idempotencyService.reserve(request));
+    }
+
+    @Test
+    void reserve_KeyUsedForTransferToAnotherTarget_ThrowsException() {
+        UUID targetWalletId = UUID.randomUUID();
+        WalletOperationRequestModel transfer = new WalletOperationRequestModel(
+                walletId, OperationType.TRANSFER, Money.of(50), "key-1", UUID.randomUUID());
+        when(idempotencyKeyRepository.insertIfAbsent(any(), any(), any(), any(), any())).thenReturn(0);
+        when(idempotencyKeyRepository.findById("key-1")).thenReturn(Optional.of(
+                new WalletIdempotencyKey("key-1", walletId, OperationType.TRANSFER, Money.of(50), targetWalletId, Money.of(150), null)));
+
+        assertThrows(InvalidOperationException.class, () -> idempotencyService.reserve(transfer));
+    }
+
+    @Test
+    void complete_RecordsBalance() {
+        WalletBalanceResponseModel response = new WalletBalanceResponseModel(walletId, Money.of(150));
+
+        assertSame(response, idempotencyService.complete(request, response));
+        verify(idempotencyKeyRepository, times(1)).recordResponse("key-1", Money.of(150).toBigDecimal());
+    }
+
+    @Test
+    void findRecent_NoKey_ReturnsEmpty() {
+        assertTrue(idempotencyService.findRecent(new WalletOperationRequestModel(walletId, OperationType.DEPOSIT, Money.of(1))).isEmpty());
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.bankaccount.service;
+
+import com.example.bankaccount.config.WalletProperties;
+import com.example.bankaccount.exception.InsufficientFundsException;
+import com.example.bankaccount.exception.WalletNotFoundException;
+import com.example.bankaccount.model.Money;
+import com.example.bankaccount.model.WalletBalanceResponseModel;
+import com.example.bankaccount.model.WalletOperationRequestModel;
+import com.example.bankaccount.model.enums.OperationType;
+import com.example.bankaccount.repository.WalletRepository;
+import com.example.bankaccount.repository.WalletShardBalance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class ShardedWalletServiceTest {
+
+    @Mock
+    private WalletRepository walletRepository;
+
+    @Mock
+    private WalletLedgerService walletLedgerService;
+
+    @Spy
+    private WalletProperties walletProperties = new WalletProperties();
+
+    @InjectMocks
+    private ShardedWalletService shardedWalletService;
+
+    private UUID walletId;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        walletId = UUID.randomUUID();
+        walletProperties.getSharding().setEnabled(true);
+        walletProperties.getSharding().setWalletIds(Set.of(walletId));
+        walletProperties.getSharding().setShards(4);
+    }
+
+    @Test
+    void isSharded_OnlyConfiguredWallets() {
+        assertTrue(shardedWalletService.isSharded(walletId));
+        assertFalse(shardedWalletService.isSharded(UUID.randomUUID()));
+        assertFalse(shardedWalletService.isSharded(null));
+    }
+
+    @Test
+    void deposit_WritesRandomShardAndReturnsSummedBalance() {
+        when(walletRepository.depositToShard(eq(walletId), anyInt(), eq(Money.of(10)))).thenReturn(true);
+        when(walletRepository.sumShardedBalance(walletId)).thenReturn(Optional.of(Money.of(110)));
+
+        WalletBalanceResponseModel result = shardedWalletService.deposit(
+                new WalletOperationRequestModel(walletId, OperationType.DEPOSIT, Money.of(10)));
+
+        assertEquals(Money.of(110), result.balance());
+        verify(walletRepository).depositToShard(eq(walletId), intThat(shard -> shard >= 0 && shard < 4), eq(Money.of(10)));
+        verify(walletLedgerService).append(walletId, OperationType.DEPOSIT, Money.of(10), Money.of(110));
+    }
+
+    @Test
+    void deposit_UnknownWallet_ThrowsNotFound() {
+        when(walletRepository.depositToShard(any(), anyInt(), any())).thenReturn(false);
+
+        assertThrows(WalletNotFoundException.class, () -> shardedWalletService.deposit(
+                new WalletOperationRequestModel(walletId, OperationType.DEPOSIT, Money.of(10))));
+    }
+
+    @Test
+    void withdraw_ShardHasFunds_DoesNotRebalance() {
+        when(walletRepository.withdrawFromAnyShard(walletId, Money.of(10))).thenReturn(true);
+        when(walletRepository.sumShardedBalance(walletId)).thenReturn(Optional.of(Money.of(90)));
+
+        shardedWalletService.withdraw(new WalletOperationRequestModel(walletId, OperationType.WITHDRAW, Money.of(10)));
+
+        verify(walletRepository, never()).lockShardBalances(any());
+    }
+
+    @Test
+    void withdraw_NoSingleShardHasFunds_RebalancesRemainderAcrossShards() {
+        when(walletRepository.withdrawFromAnyShard(walletId, Money.of(25))).thenReturn(false);
+        when(walletRepository.lockBaseBalance(walletId)).thenReturn(Optional.of(Money.of(5)));
+        List<WalletShardBalance> locked = List.of(new WalletShardBalance(0, Money.of(10)),
+                new WalletShardBalance(1, Money.of(10)), new WalletShardBalance(2, Money.parse("1.01")));
+        when(walletRepository.lockShardBalances(walletId)).thenReturn(locked);
+        when(walletRepository.sumShardedBalance(walletId)).thenReturn(Optional.of(Money.parse("1.01")));
+
+        shardedWalletService.withdraw(new WalletOperationRequestModel(walletId, OperationType.WITHDRAW, Money.of(25)));
+
+        verify(walletRepository).replaceShardBalances(eq(walletId), eq(Money.ZERO), eq(locked), argThat(shards ->
+                shards.size() == 4
+                        && shards.stream().reduce(Money.ZERO, Money::add).equals(Money.parse("1.01"))
+                        && shards.stream().allMatch(shard -> shard.signum() >= 0)));
+    }
+
+    @Test
+    void withdraw_TotalBelowAmount_ThrowsInsufficientFunds() {
+        when(walletRepository.withdrawFromAnyShard(walletId, Money.of(100))).thenReturn(false);
+        when(walletRepository.lockBaseBalance(walletId)).thenReturn(Optional.of(Money.of(10)));
+        when(walletRepository.lockShardBalances(walletId)).thenReturn(List.of(new WalletShardBalance(0, Money.of(10))));
+
+        assertThrows(InsufficientFundsException.class, () -> shardedWalletService.withdraw(
+                new WalletOperationRequestModel(walletId, OperationType.WITHDRAW, Money.of(100))));
+        verify(walletRepository, never()).replaceShardBalances(any(), any(), any(), any());
+        verifyNoInteractions(walletLedgerService);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.bankaccount.service;
+
+import com.example.bankaccount.model.Money;
+import com.example.bankaccount.repository.WalletRepository;
+import com.example.bankaccount.repository.WalletSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+public class WalletBalanceReaderTest {
+
+    @Mock
+    private WalletRepository walletRepository;
+
+    @InjectMocks
+    private WalletBalanceReader walletBalanceReader;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void findBalances_QueriesInChunks() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        WalletSnapshot firstWallet = new WalletSnapshot(first, Money.of(10), 1L);
+        WalletSnapshot thirdWallet = new WalletSnapshot(third, Money.of(30), 4L);
+        when(walletRepository.findBalances(List.of(first, second))).thenReturn(List.of(firstWallet));
+        when(walletRepository.findBalances(List.of(third))).thenReturn(List.of(thirdWallet));
+
+        List<WalletSnapshot> result = walletBalanceReader.findBalances(List.of(first, second, third), 2);
+
+        assertEquals(List.of(firstWallet, thirdWallet), result);
+        verify(walletRepository, times(2)).findBalances(anyList());
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.bankaccount.service;
+
+import com.example.bankaccount.cache.WalletBalanceCache;
+import com.example.bankaccount.entity.WalletTransaction;
+import com.example.bankaccount.exception.InsufficientFundsException;
+import com.example.bankaccount.exception.InvalidOperationException;
+import com.example.bankaccount.exception.WalletNotFoundException;
+import com.example.bankaccount.model.Money;
+import com.example.bankaccount.model.WalletOperationRequestModel;
+import com.example.bankaccount.model.enums.OperationType;
+import com.example.bankaccount.repository.WalletFunds;
+import com.example.bankaccount.repository.WalletRepository;
+import com.example.bankaccount.repository.WalletSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class WalletBatchProcessorTest {
+
+    @Mock
+    private WalletRepository walletRepository;
+
+    @Mock
+    private WalletBalanceCache walletBalanceCache;
+
+    @Mock
+    private WalletLedgerService walletLedgerService;
+
+    @Mock
+    private ShardedWalletService shardedWalletService;
+
+    @InjectMocks
+    private WalletBatchProcessor walletBatchProcessor;
+
+    private UUID walletId;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        walletId = UUID.randomUUID();
+        when(walletRepository.lockAllByIdOrdered(anyCollection()))
+                .thenReturn(List.of(new WalletFunds(walletId, Money.of(100), Money.ZERO, 3L)));
+    }
+
+    @Test
+    void apply_MixedOperations_CompletesEachOperationIndividually() {
+        UUID missingWalletId = UUID.randomUUID();
+        List<WalletOperationRequestModel> operations = List.of(
+                new WalletOperationRequestModel(walletId, OperationType.DEPOSIT, Money.of(50)),
+                new WalletOperationRequestModel(walletId, OperationType.WITHDRAW, Money.of(500)),
+                new WalletOperationRequestModel(missingWalletId, OperationType.DEPOSIT, Money.of(10)),
+                new WalletOperationRequestModel(walletId, OperationType.WITHDRAW, Money.of(120)));
+
+        List<WalletOperationOutcome> outcomes = walletBatchProcessor.apply(operations);
+
+        assertEquals(4, outcomes.size());
+        assertEquals(Money.of(150), outcomes.get(0).getOrThrow().balance());
+        assertInstanceOf(InsufficientFundsException.class, outcomes.get(1).error());
+        assertInstanceOf(WalletNotFoundException.class, outcomes.get(2).error());
+        assertEquals(Money.of(30), outcomes.get(3).getOrThrow().balance());
+        verify(walletRepository, times(1)).batchUpdateBalances(argThat((Collection<WalletSnapshot> wallets) ->
+                wallets.size() == 1 && wallets.iterator().next().balance().equals(Money.of(30))));
+        verify(walletLedgerService, times(1)).appendAll(argThat((Collection<WalletTransaction> entries) -> entries.size() == 2));
+    }
+
+    @Test
+    void apply_ShardedWallet_FailsWithoutLockingOrCaching() {
+        UUID shardedWalletId = UUID.randomUUID();
+        when(shardedWalletService.isSharded(shardedWalletId)).thenReturn(true);
+        List<WalletOperationRequestModel> operations = List.of(
+                new WalletOperationRequestModel(shardedWalletId, OperationType.WITHDRAW, Money.of(10)),
+                new WalletOperationRequestModel(walletId, OperationType.TRANSFER, Money.of(10), null, shardedWalletId),
+                new WalletOperationRequestModel(walletId, OperationType.DEPOSIT, Money.of(10)));
+
+        List<WalletOperationOutcome> outcomes = walletBatchProcessor.apply(operations);
+
+        assertInstanceOf(InvalidOperationException.class, outcomes.get(0).error());
+        assertInstanceOf(InvalidOperationException.class, outcomes.get(1).error());
+        assertEquals(Money.of(110), outcomes.get(2).getOrThrow().balance());
+        verify(walletRepository).lockAllByIdOrdered(argThat((Collection<UUID> ids) -> ids.equals(Set.of(walletId))));
+        verify(walletBalanceCache, never()).putAfterCommit(eq(shardedWalletId), any(), anyLong());
+    }
+
+    @Test
+    void apply_NoSuccessfulOperations_SkipsUpdate() {
+        List<WalletOperationRequestModel> operations = List.of(
+                new WalletOperationRequestModel(walletId, OperationType.WITHDRAW, Money.of(500)));
+
+        List<WalletOperationOutcome> outcomes = walletBatchProcessor.apply(operations);
+
+        assertFalse(outcomes.get(0).isSuccess());
+        verify(walletRepository, never()).batchUpdateBalances(any());
+    }
+
+    @Test
+    void apply_HeldFunds_AreNotAvailableForWithdrawal() {
+        when(walletRepository.lockAllByIdOrdered(anyCollection()))
+                .thenReturn(List.of(new WalletFunds(walletId, Money.of(100), Money.of(80), 3L)));
+
+        List<WalletOperationOutcome> outcomes = walletBatchProcessor.apply(List.of(
+                new WalletOperationRequestModel(walletId, OperationType.WITHDRAW, Money.of(30)),
+                new WalletOperationRequestModel(walletId, OperationType.WITHDRAW, Money.of(20))));
+
+        assertInstanceOf(InsufficientFundsException.class, outcomes.get(0).error());
+        assertEquals(Money.of(80), outcomes.get(1).getOrThrow().balance());
+    }
+
+    @Test
+    void apply_Transfer_UpdatesBothWallets() {
+        UUID targetId = UUID.randomUUID();
+        when(walletRepository.lockAllByIdOrdered(anyCollection())).thenReturn(List.of(
+                new WalletFunds(walletId, Money.of(100), Money.ZERO, 3L),
+                new WalletFunds(targetId, Money.of(5), Money.ZERO, 1L)));
+
+        List<WalletOperationOutcome> outcomes = walletBatchProcessor.apply(List.of(
+                new WalletOperationRequestModel(walletId, OperationType.TRANSFER, Money.of(40), null, targetId)));
+
+        assertEquals(Money.of(60), outcomes.get(0).getOrThrow().balance());
+        verify(walletRepository, times(1)).batchUpdateBalances(argThat((Collection<WalletSnapshot> wallets) ->
+                wallets.size() == 2 && wallets.stream().anyMatch(wallet ->
+                        wallet.walletId().equals(targetId) && wallet.balance().equals(Money.of(45)))));
+    }
+}
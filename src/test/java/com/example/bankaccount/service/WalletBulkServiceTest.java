@@ -0,0 +1,120 @@
+package com.example.bankaccount.service;
+
+import com.example.bankaccount.config.WalletProperties;
+import com.example.bankaccount.exception.InsufficientFundsException;
+import com.example.bankaccount.model.Money;
+import com.example.bankaccount.model.WalletBalanceResponseModel;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class WalletBulkServiceTest {
+
+    @Mock
+    private WalletBatchProcessor walletBatchProcessor;
+
+    private WalletBulkService walletBulkService;
+    private WalletProperties walletProperties;
+    private UUID walletId;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        walletProperties = new WalletProperties();
+        walletBulkService = new WalletBulkService(walletBatchProcessor, new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), walletProperties);
+        walletId = UUID.randomUUID();
+    }
+
+    @Test
+    void process_BestEffortNdjson_StreamsResultPerItem() throws Exception {
+        when(walletBatchProcessor.apply(anyList())).thenReturn(List.of(
+                WalletOperationOutcome.success(new WalletBalanceResponseModel(walletId, Money.of(110))),
+                WalletOperationOutcome.failure(new InsufficientFundsException("Insufficient funds"))));
+
+        String output = process("""
+                {"walletId":"%1$s","operationType":"DEPOSIT","amount":"10"}
+                {"walletId":"%1$s","operationType":"WITHDRAW","amount":"500"}
+                {"walletId":"%1$s","operationType":"DEPOSIT","amount":"-1"}
+                """.formatted(walletId), false);
+
+        String[] lines = output.split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].contains("\"status\":\"APPLIED\"") && lines[0].contains("\"balance\":\"110.00\""));
+        assertTrue(lines[1].contains("\"status\":\"FAILED\"") && lines[1].contains("Insufficient funds"));
+        assertTrue(lines[2].contains("\"index\":2") && lines[2].contains("amount"));
+        verify(walletBatchProcessor, times(1)).apply(argThat(operations -> operations.size() == 2));
+    }
+
+    @Test
+    void process_BestEffortJsonArray_AppliesInChunks() throws Exception {
+        walletProperties.getBulk().setChunkSize(1);
+        when(walletBatchProcessor.apply(anyList())).thenReturn(List.of(
+                WalletOperationOutcome.success(new WalletBalanceResponseModel(walletId, Money.of(1)))));
+
+        String output = process("""
+                [{"walletId":"%1$s","operationType":"DEPOSIT","amount":"1"},
+                 {"walletId":"%1$s","operationType":"DEPOSIT","amount":"1"}]
+                """.formatted(walletId), false);
+
+        assertEquals(2, output.split("\n").length);
+        verify(walletBatchProcessor, times(2)).apply(anyList());
+    }
+
+    @Test
+    void process_AllOrNothingWithFailure_ReportsRolledBackItems() throws Exception {
+        when(walletBatchProcessor.applyAllOrNothing(anyList())).thenReturn(List.of(
+                WalletOperationOutcome.success(new WalletBalanceResponseModel(walletId, Money.of(110))),
+                WalletOperationOutcome.failure(new InsufficientFundsException("Insufficient funds"))));
+
+        String output = process("""
+                {"walletId":"%1$s","operationType":"DEPOSIT","amount":"10"}
+                {"walletId":"%1$s","operationType":"WITHDRAW","amount":"500"}
+                """.formatted(walletId), true);
+
+        String[] lines = output.split("\n");
+        assertTrue(lines[0].contains("\"status\":\"ROLLED_BACK\""));
+        assertTrue(lines[1].contains("\"status\":\"FAILED\""));
+    }
+
+    @Test
+    void process_AllOrNothingWithInvalidItem_RejectsRequest() {
+        assertThrows(IllegalArgumentException.class, () -> process("""
+                {"walletId":"%1$s","operationType":"DEPOSIT","amount":"0"}
+                """.formatted(walletId), true));
+
+        verifyNoInteractions(walletBatchProcessor);
+    }
+
+    @Test
+    void process_BestEffortUnknownOperationType_ReportsMalformedItem() throws Exception {
+        when(walletBatchProcessor.apply(anyList())).thenReturn(List.of(
+                WalletOperationOutcome.success(new WalletBalanceResponseModel(walletId, Money.of(110)))));
+
+        String output = process("""
+                {"walletId":"%1$s","operationType":"DEPOSIT","amount":"10"}
+                {"walletId":"%1$s","operationType":"REFUND","amount":"10"}
+                """.formatted(walletId), false);
+
+        String[] lines = output.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[1].contains("\"index\":1") && lines[1].contains("Invalid operation type: REFUND"));
+    }
+
+    private String process(String body, boolean atomic) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        walletBulkService.process(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), atomic, output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}
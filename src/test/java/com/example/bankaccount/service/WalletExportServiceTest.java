@@ -0,0 +1,62 @@
+package com.example.bankaccount.service;
+
+import com.example.bankaccount.model.Money;
+import com.example.bankaccount.model.enums.ExportFormat;
+import com.example.bankaccount.repository.WalletRepository;
+import com.example.bankaccount.repository.WalletSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Consumer;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+public class WalletExportServiceTest {
+
+    @Mock
+    private WalletRepository walletRepository;
+
+    private WalletExportService walletExportService;
+    private final UUID walletId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        walletExportService = new WalletExportService(walletRepository, new ObjectMapper());
+        doAnswer(invocation -> {
+            Consumer<WalletSnapshot> consumer = invocation.getArgument(0);
+            consumer.accept(new WalletSnapshot(walletId, Money.parse("150.5"), 3L));
+            consumer.accept(new WalletSnapshot(walletId, Money.ZERO, 0L));
+            return null;
+        }).when(walletRepository).exportWallets(any());
+    }
+
+    @Test
+    void export_Ndjson_WritesOneObjectPerWallet() throws Exception {
+        String[] lines = export(ExportFormat.NDJSON).split("\n");
+
+        assertEquals(2, lines.length);
+        assertEquals("{\"walletId\":\"" + walletId + "\",\"balance\":\"150.50\",\"version\":3}", lines[0]);
+    }
+
+    @Test
+    void export_Csv_WritesHeaderAndRows() throws Exception {
+        assertEquals("""
+                wallet_id,balance,version
+                %1$s,150.50,3
+                %1$s,0.00,0
+                """.formatted(walletId), export(ExportFormat.CSV));
+    }
+
+    private String export(ExportFormat format) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        walletExportService.export(format, output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.bankaccount.service;
+
+import com.example.bankaccount.config.WalletProperties;
+import com.example.bankaccount.repository.WalletRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+public class WalletHoldSweeperTest {
+
+    private final WalletRepository walletRepository = mock(WalletRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void expireHolds_FullChunks_ContinuesUntilBacklogDrains() {
+        WalletProperties properties = new WalletProperties();
+        properties.getHolds().setSweepChunkSize(2);
+        when(walletRepository.expireHolds(2)).thenReturn(2, 2, 1);
+
+        new WalletHoldSweeper(walletRepository, properties, meterRegistry).expireHolds();
+
+        verify(walletRepository, times(3)).expireHolds(2);
+        assertEquals(5.0, meterRegistry.counter("wallet.holds.expired").count());
+    }
+
+    @Test
+    void expireHolds_NothingExpired_RunsSingleChunk() {
+        when(walletRepository.expireHolds(anyInt())).thenReturn(0);
+
+        new WalletHoldSweeper(walletRepository, new WalletProperties(), meterRegistry).expireHolds();
+
+        verify(walletRepository, times(1)).expireHolds(500);
+    }
+}
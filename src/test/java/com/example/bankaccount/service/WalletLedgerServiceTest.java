@@ -0,0 +1,87 @@
+package com.example.bankaccount.service;
+
+import com.example.bankaccount.entity.WalletTransaction;
+import com.example.bankaccount.exception.WalletNotFoundException;
+import com.example.bankaccount.model.Money;
+import com.example.bankaccount.model.WalletTransactionPageResponseModel;
+import com.example.bankaccount.model.enums.OperationType;
+import com.example.bankaccount.repository.WalletRepository;
+import com.example.bankaccount.repository.WalletTransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class WalletLedgerServiceTest {
+
+    @Mock
+    private WalletTransactionRepository walletTransactionRepository;
+
+    @Mock
+    private WalletRepository walletRepository;
+
+    @InjectMocks
+    private WalletLedgerService walletLedgerService;
+
+    private UUID walletId;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        walletId = UUID.randomUUID();
+    }
+
+    @Test
+    void getTransactions_FullPage_ReturnsNextCursor() {
+        when(walletTransactionRepository.findByWalletIdAndIdLessThanOrderByIdDesc(walletId, 10L, Limit.of(2)))
+                .thenReturn(List.of(transaction(9L), transaction(7L)));
+
+        WalletTransactionPageResponseModel page = walletLedgerService.getTransactions(walletId, 10L, 2);
+
+        assertEquals(2, page.transactions().size());
+        assertEquals(7L, page.nextCursor());
+    }
+
+    @Test
+    void getTransactions_LastPage_ReturnsNoCursor() {
+        when(walletTransactionRepository.findByWalletIdOrderByIdDesc(walletId, Limit.of(2)))
+                .thenReturn(List.of(transaction(1L)));
+
+        WalletTransactionPageResponseModel page = walletLedgerService.getTransactions(walletId, null, 2);
+
+        assertNull(page.nextCursor());
+        verify(walletRepository, never()).existsById(any());
+    }
+
+    @Test
+    void getTransactions_UnknownWallet_ThrowsException() {
+        when(walletTransactionRepository.findByWalletIdOrderByIdDesc(walletId, Limit.of(100))).thenReturn(List.of());
+        when(walletRepository.existsById(walletId)).thenReturn(false);
+
+        assertThrows(WalletNotFoundException.class, () -> walletLedgerService.getTransactions(walletId, null, 100));
+    }
+
+    @Test
+    void getTransactions_LimitOutOfRange_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> walletLedgerService.getTransactions(walletId, null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> walletLedgerService.getTransactions(walletId, null, WalletLedgerService.MAX_PAGE_SIZE + 1));
+    }
+
+    private WalletTransaction transaction(Long id) {
+        return WalletTransaction.builder()
+                .id(id)
+                .walletId(walletId)
+                .operationType(OperationType.DEPOSIT)
+                .amount(Money.of(10))
+                .balanceAfter(Money.of(10))
+                .build();
+    }
+}
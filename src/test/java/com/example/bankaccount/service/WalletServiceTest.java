@@ -1,18 +1,42 @@
 package com.example.bankaccount.service;
 
+import com.example.bankaccount.cache.WalletBalanceCache;
+import com.example.bankaccount.config.LockingStrategy;
+import com.example.bankaccount.config.WalletProperties;
+import com.example.bankaccount.config.WritePath;
+import com.example.bankaccount.engine.InMemoryWalletEngine;
 import com.example.bankaccount.entity.Wallet;
+import com.example.bankaccount.exception.HoldNotFoundException;
+import com.example.bankaccount.exception.HoldNotPendingException;
 import com.example.bankaccount.exception.InsufficientFundsException;
+import com.example.bankaccount.exception.InvalidOperationException;
 import com.example.bankaccount.exception.WalletNotFoundException;
+import com.example.bankaccount.model.Money;
+import com.example.bankaccount.model.WalletBalanceLookupResponseModel;
 import com.example.bankaccount.model.WalletBalanceResponseModel;
+import com.example.bankaccount.model.WalletHoldRequestModel;
+import com.example.bankaccount.model.WalletHoldResponseModel;
 import com.example.bankaccount.model.WalletOperationRequestModel;
+import com.example.bankaccount.model.enums.HoldStatus;
 import com.example.bankaccount.model.enums.OperationType;
+import com.example.bankaccount.replica.ReadConsistency;
+import com.example.bankaccount.repository.AtomicWithdrawResult;
+import com.example.bankaccount.repository.HoldSettlement;
+import com.example.bankaccount.repository.WalletFunds;
+import com.example.bankaccount.repository.WalletHoldSnapshot;
 import com.example.bankaccount.repository.WalletRepository;
+import com.example.bankaccount.repository.WalletSnapshot;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import java.math.BigDecimal;
+import org.mockito.Spy;
+import org.springframework.dao.CannotAcquireLockException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.*;
@@ -20,6 +44,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 public class WalletServiceTest {
@@ -27,6 +52,27 @@ public class WalletServiceTest {
     @Mock
     private WalletRepository walletRepository;
 
+    @Mock
+    private WalletBalanceCache walletBalanceCache;
+
+    @Mock
+    private WalletLedgerService walletLedgerService;
+
+    @Mock
+    private IdempotencyService idempotencyService;
+
+    @Mock
+    private ShardedWalletService shardedWalletService;
+
+    @Mock
+    private InMemoryWalletEngine inMemoryWalletEngine;
+
+    @Mock
+    private WalletBalanceReader walletBalanceReader;
+
+    @Spy
+    private WalletProperties walletProperties = new WalletProperties();
+
     @InjectMocks
     private WalletService walletService;
 
@@ -37,30 +83,118 @@ public class WalletServiceTest {
     void setUp() {
         MockitoAnnotations.openMocks(this);
         walletId = UUID.randomUUID();
-        wallet = Wallet.builder().walletId(walletId).balance(BigDecimal.valueOf(100.00)).version(0L).build();
+        wallet = Wallet.builder().walletId(walletId).balance(Money.of(100)).version(0L).build();
+        when(idempotencyService.complete(any(), any())).thenAnswer(invocation -> invocation.getArgument(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadConsistency.clear();
+    }
+
+    @Test
+    void getWalletBalances_ChunksUncachedIdsAndReportsMissing() {
+        UUID cachedId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        walletProperties.getLookup().setChunkSize(1);
+        when(walletBalanceCache.get(cachedId)).thenReturn(Optional.of(new WalletBalanceResponseModel(cachedId, Money.of(5))));
+        when(walletBalanceReader.findBalances(List.of(walletId, missingId), 1))
+                .thenReturn(List.of(new WalletSnapshot(walletId, Money.of(100), 2L)));
+
+        WalletBalanceLookupResponseModel result = walletService.getWalletBalances(List.of(walletId, cachedId, missingId, walletId));
+
+        assertEquals(List.of(new WalletBalanceResponseModel(walletId, Money.of(100)),
+                new WalletBalanceResponseModel(cachedId, Money.of(5))), result.balances());
+        assertEquals(List.of(missingId), result.missingWalletIds());
+        verify(walletBalanceCache, times(1)).put(walletId, Money.of(100), 2L);
+    }
+
+    @Test
+    void getWalletBalances_ShardedWallet_SkipsCache() {
+        when(shardedWalletService.isSharded(walletId)).thenReturn(true);
+        when(walletBalanceCache.get(walletId)).thenReturn(Optional.of(new WalletBalanceResponseModel(walletId, Money.ZERO)));
+        when(walletBalanceReader.findBalances(List.of(walletId), walletProperties.getLookup().getChunkSize()))
+                .thenReturn(List.of(new WalletSnapshot(walletId, Money.of(300), 4L)));
+
+        WalletBalanceLookupResponseModel result = walletService.getWalletBalances(List.of(walletId));
+
+        assertEquals(List.of(new WalletBalanceResponseModel(walletId, Money.of(300))), result.balances());
+        verify(walletBalanceCache, never()).get(any());
+        verify(walletBalanceCache, never()).put(any(), any(), anyLong());
+    }
+
+    @Test
+    void getWalletBalances_TooManyIds_ThrowsException() {
+        walletProperties.getLookup().setMaxWallets(1);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> walletService.getWalletBalances(List.of(walletId, UUID.randomUUID())));
+        verify(walletBalanceReader, never()).findBalances(anyList(), anyInt());
+    }
+
+    @Test
+    void getWalletBalances_AllCached_SkipsReader() {
+        when(walletBalanceCache.get(walletId)).thenReturn(Optional.of(new WalletBalanceResponseModel(walletId, Money.of(100))));
+
+        WalletBalanceLookupResponseModel result = walletService.getWalletBalances(List.of(walletId));
+
+        assertEquals(List.of(new WalletBalanceResponseModel(walletId, Money.of(100))), result.balances());
+        verifyNoInteractions(walletBalanceReader);
     }
 
     @Test
     void getWalletBalance_ValidId_ReturnsBalance() {
-        when(walletRepository.findById(walletId)).thenReturn(Optional.of(wallet));
+        when(walletBalanceReader.findById(walletId)).thenReturn(Optional.of(wallet));
 
         WalletBalanceResponseModel result = walletService.getWalletBalance(walletId);
 
         assertNotNull(result);
         assertEquals(walletId, result.walletId());
-        assertEquals(BigDecimal.valueOf(100.00), result.balance());
-        verify(walletRepository, times(1)).findById(walletId);
+        assertEquals(Money.of(100), result.balance());
+        verify(walletBalanceReader, times(1)).findById(walletId);
+    }
+
+    @Test
+    void getWalletBalance_CachedBalance_SkipsRepository() {
+        when(walletBalanceCache.get(walletId))
+                .thenReturn(Optional.of(new WalletBalanceResponseModel(walletId, Money.of(100))));
+
+        WalletBalanceResponseModel result = walletService.getWalletBalance(walletId);
+
+        assertEquals(Money.of(100), result.balance());
+        verify(walletBalanceReader, never()).findById(any());
+    }
+
+    @Test
+    void getWalletBalance_CacheMiss_PopulatesCache() {
+        when(walletBalanceReader.findById(walletId)).thenReturn(Optional.of(wallet));
+
+        walletService.getWalletBalance(walletId);
+
+        verify(walletBalanceCache, times(1)).put(walletId, Money.of(100), 0L);
+    }
+
+    @Test
+    void getWalletBalance_ConsistencyTokenPresent_BypassesCache() {
+        ReadConsistency.require("0/16B3748");
+        when(walletBalanceReader.findById(walletId)).thenReturn(Optional.of(wallet));
+
+        WalletBalanceResponseModel result = walletService.getWalletBalance(walletId);
+
+        assertEquals(Money.of(100), result.balance());
+        verify(walletBalanceCache, never()).get(any());
+        verify(walletBalanceCache, times(1)).put(walletId, Money.of(100), 0L);
     }
 
     @Test
     void getWalletBalance_NotFound_ThrowsException() {
-        when(walletRepository.findById(walletId)).thenReturn(Optional.empty());
+        when(walletBalanceReader.findById(walletId)).thenReturn(Optional.empty());
 
         assertThrows(WalletNotFoundException.class, () -> {
             walletService.getWalletBalance(walletId);
         });
 
-        verify(walletRepository, times(1)).findById(walletId);
+        verify(walletBalanceReader, times(1)).findById(walletId);
     }
 
     @Test
@@ -68,12 +202,41 @@ public class WalletServiceTest {
         when(walletRepository.findById(walletId)).thenReturn(Optional.of(wallet));
         when(walletRepository.save(any(Wallet.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-        WalletOperationRequestModel request = new WalletOperationRequestModel(walletId, OperationType.DEPOSIT, BigDecimal.valueOf(50.00));
+        WalletOperationRequestModel request = new WalletOperationRequestModel(walletId, OperationType.DEPOSIT, Money.of(50));
+
+        WalletBalanceResponseModel result = walletService.deposit(request);
+
+        assertEquals(Money.of(150), result.balance());
+        verify(walletRepository, times(1)).save(argThat(w -> w.getBalance().equals(Money.of(150))));
+        verify(walletLedgerService, times(1)).append(walletId, OperationType.DEPOSIT, Money.of(50), Money.of(150));
+        verify(walletBalanceCache, times(1)).putAfterCommit(wallet);
+    }
+
+    @Test
+    void withdraw_ReplayedIdempotencyKey_ReturnsStoredResponseWithoutTouchingWallet() {
+        WalletOperationRequestModel request = new WalletOperationRequestModel(walletId, OperationType.WITHDRAW, Money.of(500), "key-1");
+        WalletBalanceResponseModel original = new WalletBalanceResponseModel(walletId, Money.of(120));
+        when(idempotencyService.reserve(request)).thenReturn(Optional.of(original));
+
+        WalletBalanceResponseModel result = walletService.withdraw(request);
+
+        assertSame(original, result);
+        verify(walletRepository, never()).findById(any());
+        verify(walletRepository, never()).save(any());
+        verify(idempotencyService, never()).complete(any(), any());
+    }
+
+    @Test
+    void deposit_WithIdempotencyKey_RecordsResponse() {
+        when(walletRepository.findById(walletId)).thenReturn(Optional.of(wallet));
+        when(walletRepository.save(any(Wallet.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        WalletOperationRequestModel request = new WalletOperationRequestModel(walletId, OperationType.DEPOSIT, Money.of(50), "key-1");
 
         WalletBalanceResponseModel result = walletService.deposit(request);
 
-        assertEquals(BigDecimal.valueOf(150.00), result.balance());
-        verify(walletRepository, times(1)).save(argThat(w -> w.getBalance().equals(BigDecimal.valueOf(150.00))));
+        assertEquals(Money.of(150), result.balance());
+        verify(idempotencyService, times(1)).reserve(request);
+        verify(idempotencyService, times(1)).complete(request, new WalletBalanceResponseModel(walletId, Money.of(150)));
     }
 
     @Test
@@ -81,30 +244,42 @@ public class WalletServiceTest {
         when(walletRepository.findById(walletId)).thenReturn(Optional.of(wallet));
         when(walletRepository.save(any(Wallet.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-        WalletOperationRequestModel request = new WalletOperationRequestModel(walletId, OperationType.WITHDRAW, BigDecimal.valueOf(30.00));
+        WalletOperationRequestModel request = new WalletOperationRequestModel(walletId, OperationType.WITHDRAW, Money.of(30));
 
         WalletBalanceResponseModel result = walletService.withdraw(request);
 
-        assertEquals(BigDecimal.valueOf(70.00), result.balance());
-        verify(walletRepository, times(1)).save(argThat(w -> w.getBalance().equals(BigDecimal.valueOf(70.00))));
+        assertEquals(Money.of(70), result.balance());
+        verify(walletRepository, times(1)).save(argThat(w -> w.getBalance().equals(Money.of(70))));
     }
 
     @Test
     void withdraw_InsufficientFunds_ThrowsException() {
         when(walletRepository.findById(walletId)).thenReturn(Optional.of(wallet));
 
-        WalletOperationRequestModel request = new WalletOperationRequestModel(walletId, OperationType.WITHDRAW, BigDecimal.valueOf(150.00));
+        WalletOperationRequestModel request = new WalletOperationRequestModel(walletId, OperationType.WITHDRAW, Money.of(150));
 
         assertThrows(InsufficientFundsException.class, () -> {
             walletService.withdraw(request);
         });
 
         verify(walletRepository, never()).save(any());
+        verify(walletLedgerService, never()).append(any(), any(), any(), any());
+    }
+
+    @Test
+    void withdraw_HeldFunds_ThrowsException() {
+        wallet.setHeld(Money.of(60));
+        when(walletRepository.findById(walletId)).thenReturn(Optional.of(wallet));
+
+        WalletOperationRequestModel request = new WalletOperationRequestModel(walletId, OperationType.WITHDRAW, Money.of(50));
+
+        assertThrows(InsufficientFundsException.class, () -> walletService.withdraw(request));
+        verify(walletRepository, never()).save(any());
     }
 
     @Test
     void deposit_NullWalletId_ThrowsException() {
-        WalletOperationRequestModel request = new WalletOperationRequestModel(null,OperationType.DEPOSIT, BigDecimal.valueOf(50.00));
+        WalletOperationRequestModel request = new WalletOperationRequestModel(null,OperationType.DEPOSIT, Money.of(50));
 
         assertThrows(WalletNotFoundException.class, () -> {
             walletService.deposit(request);
@@ -115,7 +290,7 @@ public class WalletServiceTest {
 
     @Test
     void withdraw_NullWalletId_ThrowsException() {
-        WalletOperationRequestModel request = new WalletOperationRequestModel(null, OperationType.WITHDRAW, BigDecimal.valueOf(50.00));
+        WalletOperationRequestModel request = new WalletOperationRequestModel(null, OperationType.WITHDRAW, Money.of(50));
 
         assertThrows(WalletNotFoundException.class, () -> {
             walletService.withdraw(request);
@@ -123,4 +298,247 @@ public class WalletServiceTest {
 
         verify(walletRepository, never()).save(any());
     }
+
+    @Test
+    void deposit_AtomicWritePath_UpdatesWithoutRead() {
+        walletProperties.setWritePath(WritePath.ATOMIC);
+        when(walletRepository.depositAtomically(walletId, Money.of(50)))
+                .thenReturn(Optional.of(new WalletSnapshot(walletId, Money.of(150), 1L)));
+
+        WalletOperationRequestModel request = new WalletOperationRequestModel(walletId, OperationType.DEPOSIT, Money.of(50));
+
+        WalletBalanceResponseModel result = walletService.deposit(request);
+
+        assertEquals(Money.of(150), result.balance());
+        verify(walletRepository, never()).findById(any());
+    }
+
+    @Test
+    void deposit_AtomicWritePath_NotFound_ThrowsException() {
+        walletProperties.setWritePath(WritePath.ATOMIC);
+        when(walletRepository.depositAtomically(any(), any())).thenReturn(Optional.empty());
+
+        WalletOperationRequestModel request = new WalletOperationRequestModel(walletId, OperationType.DEPOSIT, Money.of(50));
+
+        assertThrows(WalletNotFoundException.class, () -> walletService.deposit(request));
+    }
+
+    @Test
+    void withdraw_AtomicWritePath_UpdatesWithoutRead() {
+        walletProperties.setWritePath(WritePath.ATOMIC);
+        when(walletRepository.withdrawAtomically(walletId, Money.of(30)))
+                .thenReturn(new AtomicWithdrawResult(new WalletSnapshot(walletId, Money.of(70), 1L), true));
+
+        WalletOperationRequestModel request = new WalletOperationRequestModel(walletId, OperationType.WITHDRAW, Money.of(30));
+
+        WalletBalanceResponseModel result = walletService.withdraw(request);
+
+        assertEquals(Money.of(70), result.balance());
+        verify(walletRepository, never()).findById(any());
+    }
+
+    @Test
+    void withdraw_AtomicWritePath_InsufficientFunds_ThrowsException() {
+        walletProperties.setWritePath(WritePath.ATOMIC);
+        when(walletRepository.withdrawAtomically(any(), any())).thenReturn(new AtomicWithdrawResult(null, true));
+
+        WalletOperationRequestModel request = new WalletOperationRequestModel(walletId, OperationType.WITHDRAW, Money.of(150));
+
+        assertThrows(InsufficientFundsException.class, () -> walletService.withdraw(request));
+    }
+
+    @Test
+    void withdraw_AtomicWritePath_NotFound_ThrowsException() {
+        walletProperties.setWritePath(WritePath.ATOMIC);
+        when(walletRepository.withdrawAtomically(any(), any())).thenReturn(new AtomicWithdrawResult(null, false));
+
+        WalletOperationRequestModel request = new WalletOperationRequestModel(walletId, OperationType.WITHDRAW, Money.of(150));
+
+        assertThrows(WalletNotFoundException.class, () -> walletService.withdraw(request));
+    }
+
+    @Test
+    void transfer_ValidAmount_MovesFundsBetweenLockedWallets() {
+        UUID targetId = UUID.randomUUID();
+        Wallet target = Wallet.builder().walletId(targetId).balance(Money.of(10)).version(0L).build();
+        when(walletRepository.findAllByIdForUpdate(List.of(walletId, targetId))).thenReturn(List.of(target, wallet));
+
+        WalletOperationRequestModel request = new WalletOperationRequestModel(walletId, OperationType.TRANSFER, Money.of(40), null, targetId);
+
+        WalletBalanceResponseModel result = walletService.transfer(request);
+
+        assertEquals(Money.of(60), result.balance());
+        assertEquals(Money.of(50), target.getBalance());
+        verify(walletLedgerService, times(1)).append(walletId, OperationType.TRANSFER, Money.of(-40), Money.of(60));
+        verify(walletLedgerService, times(1)).append(targetId, OperationType.TRANSFER, Money.of(40), Money.of(50));
+    }
+
+    @Test
+    void transfer_InsufficientFunds_ThrowsException() {
+        UUID targetId = UUID.randomUUID();
+        Wallet target = Wallet.builder().walletId(targetId).balance(Money.of(10)).version(0L).build();
+        when(walletRepository.findAllByIdForUpdate(any())).thenReturn(List.of(wallet, target));
+
+        WalletOperationRequestModel request = new WalletOperationRequestModel(walletId, OperationType.TRANSFER, Money.of(400), null, targetId);
+
+        assertThrows(InsufficientFundsException.class, () -> walletService.transfer(request));
+        verify(walletRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void transfer_MissingTargetWallet_ThrowsException() {
+        when(walletRepository.findAllByIdForUpdate(any())).thenReturn(List.of(wallet));
+
+        WalletOperationRequestModel request = new WalletOperationRequestModel(walletId, OperationType.TRANSFER, Money.of(40), null, UUID.randomUUID());
+
+        assertThrows(WalletNotFoundException.class, () -> walletService.transfer(request));
+    }
+
+    @Test
+    void transfer_SameWallet_ThrowsException() {
+        WalletOperationRequestModel request = new WalletOperationRequestModel(walletId, OperationType.TRANSFER, Money.of(40), null, walletId);
+
+        assertThrows(InvalidOperationException.class, () -> walletService.transfer(request));
+        verify(walletRepository, never()).findAllByIdForUpdate(any());
+    }
+
+    @Test
+    void transfer_ShardedTarget_ThrowsWithoutLockingOrCaching() {
+        UUID targetId = UUID.randomUUID();
+        when(shardedWalletService.isSharded(targetId)).thenReturn(true);
+
+        WalletOperationRequestModel request = new WalletOperationRequestModel(walletId, OperationType.TRANSFER, Money.of(40), null, targetId);
+
+        assertThrows(InvalidOperationException.class, () -> walletService.transfer(request));
+        verify(walletRepository, never()).findAllByIdForUpdate(any());
+        verify(idempotencyService, never()).reserve(any());
+        verifyNoInteractions(walletBalanceCache);
+    }
+
+    @Test
+    void deposit_ShardedWallet_DelegatesToShards() {
+        WalletOperationRequestModel request = new WalletOperationRequestModel(walletId, OperationType.DEPOSIT, Money.of(10));
+        when(shardedWalletService.isSharded(walletId)).thenReturn(true);
+        when(shardedWalletService.deposit(request)).thenReturn(new WalletBalanceResponseModel(walletId, Money.of(110)));
+
+        WalletBalanceResponseModel result = walletService.deposit(request);
+
+        assertEquals(Money.of(110), result.balance());
+        verify(walletRepository, never()).findById(any());
+    }
+
+    @Test
+    void withdraw_PessimisticStrategy_LocksRowWithTimeout() {
+        walletProperties.getLocking().setStrategy(LockingStrategy.PESSIMISTIC);
+        walletProperties.getLocking().setLockTimeout(Duration.ofMillis(250));
+        when(walletRepository.findByIdForUpdate(walletId)).thenReturn(Optional.of(wallet));
+        when(walletRepository.save(any(Wallet.class))).thenReturn(wallet);
+
+        WalletBalanceResponseModel result = walletService.withdraw(
+                new WalletOperationRequestModel(walletId, OperationType.WITHDRAW, Money.of(30)));
+
+        assertEquals(Money.of(70), result.balance());
+        verify(walletRepository, times(1)).setLockTimeout(Duration.ofMillis(250));
+        verify(walletRepository, never()).findById(any());
+    }
+
+    @Test
+    void deposit_NoWaitWalletOverride_FailsFastWhenLocked() {
+        walletProperties.getLocking().getWalletStrategies().put(walletId, LockingStrategy.NOWAIT);
+        when(walletRepository.findByIdForUpdateNoWait(walletId)).thenThrow(new CannotAcquireLockException("locked"));
+
+        assertThrows(CannotAcquireLockException.class, () -> walletService.deposit(
+                new WalletOperationRequestModel(walletId, OperationType.DEPOSIT, Money.of(10))));
+        verify(walletRepository, never()).setLockTimeout(any());
+        verify(walletRepository, never()).save(any());
+    }
+
+    @Test
+    void placeHold_AvailableFunds_ReservesAndReportsAvailable() {
+        when(walletRepository.placeHold(any(), eq(walletId), eq(Money.of(40)), any()))
+                .thenReturn(Optional.of(new WalletFunds(walletId, Money.of(100), Money.of(40), 1L)));
+
+        WalletHoldResponseModel result = walletService.placeHold(
+                new WalletHoldRequestModel(walletId, Money.of(40), Duration.ofMinutes(15)));
+
+        assertEquals(HoldStatus.PENDING, result.status());
+        assertEquals(Money.of(100), result.balance());
+        assertEquals(Money.of(60), result.available());
+        verify(walletBalanceCache, times(1)).putAfterCommit(walletId, Money.of(100), 1L);
+        verify(walletLedgerService, never()).append(any(), any(), any(), any());
+    }
+
+    @Test
+    void placeHold_NotReserved_DistinguishesInsufficientFundsFromMissingWallet() {
+        UUID missingId = UUID.randomUUID();
+        when(walletRepository.placeHold(any(), any(), any(), any())).thenReturn(Optional.empty());
+        when(walletRepository.existsById(walletId)).thenReturn(true);
+
+        assertThrows(InsufficientFundsException.class,
+                () -> walletService.placeHold(new WalletHoldRequestModel(walletId, Money.of(500), null)));
+        assertThrows(WalletNotFoundException.class,
+                () -> walletService.placeHold(new WalletHoldRequestModel(missingId, Money.of(5), null)));
+    }
+
+    @Test
+    void placeHold_ExpiryBeyondMaximum_ThrowsException() {
+        WalletHoldRequestModel request = new WalletHoldRequestModel(walletId, Money.of(5), Duration.ofDays(31));
+
+        assertThrows(InvalidOperationException.class, () -> walletService.placeHold(request));
+        verify(walletRepository, never()).placeHold(any(), any(), any(), any());
+    }
+
+    @Test
+    void placeHold_ShardedWallet_ThrowsException() {
+        when(shardedWalletService.isSharded(walletId)).thenReturn(true);
+
+        assertThrows(InvalidOperationException.class,
+                () -> walletService.placeHold(new WalletHoldRequestModel(walletId, Money.of(5), null)));
+    }
+
+    @Test
+    void captureHold_Pending_RecordsWithdrawal() {
+        UUID holdId = UUID.randomUUID();
+        when(walletRepository.captureHold(holdId)).thenReturn(Optional.of(new HoldSettlement(
+                new WalletFunds(walletId, Money.of(60), Money.ZERO, 2L), Money.of(40), Instant.now())));
+
+        WalletHoldResponseModel result = walletService.captureHold(holdId);
+
+        assertEquals(HoldStatus.CAPTURED, result.status());
+        assertEquals(Money.of(60), result.available());
+        verify(walletLedgerService, times(1)).append(walletId, OperationType.WITHDRAW, Money.of(40), Money.of(60));
+        verify(walletBalanceCache, times(1)).putAfterCommit(walletId, Money.of(60), 2L);
+    }
+
+    @Test
+    void captureHold_NotSettled_ReportsWhy() {
+        UUID expiredId = UUID.randomUUID();
+        UUID releasedId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        when(walletRepository.captureHold(any())).thenReturn(Optional.empty());
+        when(walletRepository.findHold(expiredId)).thenReturn(Optional.of(new WalletHoldSnapshot(
+                expiredId, walletId, Money.of(5), HoldStatus.PENDING, Instant.now().minusSeconds(1))));
+        when(walletRepository.findHold(releasedId)).thenReturn(Optional.of(new WalletHoldSnapshot(
+                releasedId, walletId, Money.of(5), HoldStatus.RELEASED, Instant.now())));
+
+        assertEquals("Hold has expired",
+                assertThrows(HoldNotPendingException.class, () -> walletService.captureHold(expiredId)).getMessage());
+        assertEquals("Hold is already released",
+                assertThrows(HoldNotPendingException.class, () -> walletService.captureHold(releasedId)).getMessage());
+        assertThrows(HoldNotFoundException.class, () -> walletService.captureHold(missingId));
+        verify(walletLedgerService, never()).append(any(), any(), any(), any());
+    }
+
+    @Test
+    void releaseHold_Pending_ReturnsFundsWithoutLedgerEntry() {
+        UUID holdId = UUID.randomUUID();
+        when(walletRepository.releaseHold(holdId)).thenReturn(Optional.of(new HoldSettlement(
+                new WalletFunds(walletId, Money.of(100), Money.ZERO, 2L), Money.of(40), Instant.now())));
+
+        WalletHoldResponseModel result = walletService.releaseHold(holdId);
+
+        assertEquals(HoldStatus.RELEASED, result.status());
+        assertEquals(Money.of(100), result.available());
+        verify(walletLedgerService, never()).append(any(), any(), any(), any());
+    }
 }